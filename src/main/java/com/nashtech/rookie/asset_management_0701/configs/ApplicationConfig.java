@@ -1,5 +1,8 @@
 package com.nashtech.rookie.asset_management_0701.configs;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -8,7 +11,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 
 import com.nashtech.rookie.asset_management_0701.constants.PredefinedLocation;
 import com.nashtech.rookie.asset_management_0701.entities.Location;
@@ -38,6 +43,12 @@ public class ApplicationConfig {
     @Value("${application.admin.default.password}")
     private String adminPassword;
 
+    @Value("${application.security.password.encoder:bcrypt}")
+    private String passwordEncoderId;
+
+    @Value("${application.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public AuthenticationManager authenticationManager (AuthenticationConfiguration configuration) throws Exception {
         return configuration.getAuthenticationManager();
@@ -58,9 +69,17 @@ public class ApplicationConfig {
                                         .bearerFormat("JWT")));
     }
 
+    // new hashes carry the {id} of the configured encoder, older ones are rehashed on the next successful login
     @Bean
     public PasswordEncoder passwordEncoder () {
-        return new BCryptPasswordEncoder();
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(passwordEncoderId, encoders);
+        // hashes stored before the prefix was introduced are plain bcrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
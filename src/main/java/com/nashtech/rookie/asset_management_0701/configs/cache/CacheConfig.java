@@ -1,17 +1,45 @@
 package com.nashtech.rookie.asset_management_0701.configs.cache;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 @EnableCaching
 @Configuration
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    @Value("${application.jwt.expiration}")
+    private long jwtExpiration;
 
     @Bean
-    public CacheManager cacheManager (){
-        return new ConcurrentMapCacheManager();
+    public CacheManager cacheManager (CacheProperties properties){
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(caffeine(properties.getDefaults(), new CacheProperties.CacheSpec()));
+        properties.getCaches().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, caffeine(properties.getDefaults(), spec).build()));
+        return cacheManager;
+    }
+
+    // Caffeine evicts by W-TinyLFU once a cache is full, stats feed the per-cache hit, miss and load metrics
+    private Caffeine<Object, Object> caffeine (CacheProperties.CacheSpec defaults, CacheProperties.CacheSpec spec) {
+        Long maximumSize = spec.getMaximumSize() != null ? spec.getMaximumSize() : defaults.getMaximumSize();
+        Duration expireAfterWrite = spec.getExpireAfterWrite() != null
+                ? spec.getExpireAfterWrite()
+                : defaults.getExpireAfterWrite();
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize != null ? maximumSize : DEFAULT_MAXIMUM_SIZE)
+                // nothing cached about a user outlives the tokens issued to them
+                .expireAfterWrite(expireAfterWrite != null ? expireAfterWrite : Duration.ofSeconds(jwtExpiration))
+                .recordStats();
     }
 }
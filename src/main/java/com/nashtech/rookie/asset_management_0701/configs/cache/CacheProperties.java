@@ -0,0 +1,25 @@
+package com.nashtech.rookie.asset_management_0701.configs.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "application.cache")
+public class CacheProperties {
+    // applied to caches created on first use and to any setting a named cache leaves out
+    private CacheSpec defaults = new CacheSpec();
+
+    private Map<String, CacheSpec> caches = new HashMap<>();
+
+    @Data
+    public static class CacheSpec {
+        private Long maximumSize;
+
+        private Duration expireAfterWrite;
+    }
+}
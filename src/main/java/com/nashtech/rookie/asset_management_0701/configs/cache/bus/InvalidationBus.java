@@ -0,0 +1,10 @@
+package com.nashtech.rookie.asset_management_0701.configs.cache.bus;
+
+import java.util.function.Consumer;
+
+// carries cache invalidations between the nodes behind the load balancer
+public interface InvalidationBus {
+    void publish (InvalidationEvent event);
+
+    void subscribe (Consumer<InvalidationEvent> subscriber);
+}
@@ -0,0 +1,13 @@
+package com.nashtech.rookie.asset_management_0701.configs.cache.bus;
+
+import java.time.Instant;
+
+import com.nashtech.rookie.asset_management_0701.enums.EInvalidationType;
+
+// origin is the node that published the event, it has already applied the change itself
+public record InvalidationEvent(String origin, EInvalidationType type, String cacheName, String key, Instant expiry) {
+
+    public static InvalidationEvent resync () {
+        return new InvalidationEvent(null, EInvalidationType.RESYNC, null, null, null);
+    }
+}
@@ -0,0 +1,25 @@
+package com.nashtech.rookie.asset_management_0701.configs.cache.bus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// single node deployments and tests, events are handed straight to the subscribers of this JVM
+@Component
+@ConditionalOnProperty(name = "application.cache.bus", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationBus implements InvalidationBus {
+    private final List<Consumer<InvalidationEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish (InvalidationEvent event) {
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+
+    @Override
+    public void subscribe (Consumer<InvalidationEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,139 @@
+package com.nashtech.rookie.asset_management_0701.configs.cache.bus;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// every node LISTENs on one channel, so no broker is needed besides the database the nodes already share
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "application.cache.bus", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresInvalidationBus implements InvalidationBus {
+    private static final String CHANNEL = "cache_invalidation";
+
+    private static final int POLL_MILLIS = 5000;
+
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final List<Consumer<InvalidationEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+
+    private Thread listener;
+
+    @Override
+    public void publish (InvalidationEvent event) {
+        try {
+            jdbcTemplate.queryForList("select pg_notify(?, ?)", CHANNEL, objectMapper.writeValueAsString(event));
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void subscribe (Consumer<InvalidationEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start () {
+        running = true;
+        listener = Thread.ofPlatform().daemon().name("cache-invalidation-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop () {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    // a dedicated connection outside the pool, it stays open for as long as the node runs
+    private void listen () {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // notifications sent while the connection was down are lost
+                if (reconnecting) {
+                    dispatch(InvalidationEvent.resync());
+                }
+                reconnecting = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            }
+            catch (SQLException e) {
+                log.warn("Cache invalidation listener lost its connection: {}", e.getMessage());
+                reconnecting = true;
+                pause();
+            }
+        }
+    }
+
+    private void receive (String payload) {
+        try {
+            dispatch(objectMapper.readValue(payload, InvalidationEvent.class));
+        }
+        catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable cache invalidation event: {}", payload);
+        }
+    }
+
+    private void dispatch (InvalidationEvent event) {
+        subscribers.forEach(subscriber -> subscriber.accept(event));
+    }
+
+    private void pause () {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.nashtech.rookie.asset_management_0701.configs.executor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${application.report.executor.pool-size:4}")
+    private int reportPoolSize;
+
+    @Value("${application.report.executor.queue-capacity:100}")
+    private int reportQueueCapacity;
+
+    @Value("${application.report.export.pool-size:2}")
+    private int exportPoolSize;
+
+    @Value("${application.report.export.queue-capacity:20}")
+    private int exportQueueCapacity;
+
+    @Value("${application.security.password.hashing.pool-size:4}")
+    private int passwordHashPoolSize;
+
+    @Value("${application.security.password.hashing.queue-capacity:50}")
+    private int passwordHashQueueCapacity;
+
+    // declaring our own executors switches off the auto-configured one used for MVC async requests
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor (ThreadPoolTaskExecutorBuilder threadPoolBuilder,
+                                                      SimpleAsyncTaskExecutorBuilder simpleAsyncBuilder) {
+        return virtualThreads ? simpleAsyncBuilder.virtualThreads(true).build() : threadPoolBuilder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reportExecutor () {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reportPoolSize);
+        executor.setMaxPoolSize(reportPoolSize);
+        executor.setQueueCapacity(reportQueueCapacity);
+        executor.setThreadNamePrefix("report-");
+        // the pool size still caps how many aggregates run at once, virtual threads only free the carrier
+        // while a query blocks
+        applyThreadMode(executor, "report-");
+        // a full queue slows the caller down instead of dropping partial aggregates
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reportExportExecutor () {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportPoolSize);
+        executor.setMaxPoolSize(exportPoolSize);
+        executor.setQueueCapacity(exportQueueCapacity);
+        executor.setThreadNamePrefix("report-export-");
+        applyThreadMode(executor, "report-export-");
+        return executor;
+    }
+
+    // hashing is CPU bound, a full queue rejects the login instead of tying up more web threads,
+    // and it keeps platform threads since a virtual thread would never yield during a hash
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor () {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(passwordHashPoolSize);
+        executor.setMaxPoolSize(passwordHashPoolSize);
+        executor.setQueueCapacity(passwordHashQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
+    }
+
+    private void applyThreadMode (ThreadPoolTaskExecutor executor, String threadNamePrefix) {
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        }
+    }
+}
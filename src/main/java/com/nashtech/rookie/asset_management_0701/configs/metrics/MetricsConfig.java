@@ -0,0 +1,61 @@
+package com.nashtech.rookie.asset_management_0701.configs.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.nashtech.rookie.asset_management_0701.configs.security.TokenRevocationIndex;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.TokenSweepResponse;
+import com.nashtech.rookie.asset_management_0701.services.auth.AuthenticationService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+// endpoint, repository, Hikari, Hibernate and cache meters come from the actuator auto-configuration,
+// this adds the statements per request, the revoked token count and the token sweep stats
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+    private final StatementCountInterceptor statementCountInterceptor;
+
+    @Override
+    public void addInterceptors (InterceptorRegistry registry) {
+        registry.addInterceptor(statementCountInterceptor).addPathPatterns("/api/**");
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer (StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public MeterBinder revocationMetrics (TokenRevocationIndex revocationIndex) {
+        return registry -> Gauge.builder("jwt.revocation.tokens", revocationIndex, TokenRevocationIndex::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder tokenSweepMetrics (AuthenticationService authenticationService) {
+        return registry -> {
+            FunctionCounter.builder("jwt.sweep.runs", authenticationService,
+                            service -> service.getTokenSweepStats().getRunCount())
+                    .register(registry);
+            FunctionCounter.builder("jwt.sweep.deleted.tokens", authenticationService,
+                            service -> service.getTokenSweepStats().getTotalDeletedCount())
+                    .register(registry);
+            Gauge.builder("jwt.sweep.last.duration", authenticationService, MetricsConfig::lastSweepMillis)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    private static double lastSweepMillis (AuthenticationService authenticationService) {
+        TokenSweepResponse last = authenticationService.getTokenSweepStats();
+        return last.getLastDurationMillis() != null ? last.getLastDurationMillis() : Double.NaN;
+    }
+}
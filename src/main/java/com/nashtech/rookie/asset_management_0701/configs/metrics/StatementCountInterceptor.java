@@ -0,0 +1,55 @@
+package com.nashtech.rookie.asset_management_0701.configs.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// records hibernate.statements.per.request tagged like http.server.requests, so an N+1 shows up per endpoint
+@Component
+@RequiredArgsConstructor
+public class StatementCountInterceptor implements AsyncHandlerInterceptor {
+    private static final String METRIC = "hibernate.statements.per.request";
+
+    private final StatementCounter statementCounter;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle (HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion (HttpServletRequest request, HttpServletResponse response, Object handler,
+                                 Exception ex) {
+        record(request);
+    }
+
+    // an async handler goes on in another thread, only what ran before the hand-off is counted
+    @Override
+    public void afterConcurrentHandlingStarted (HttpServletRequest request, HttpServletResponse response,
+                                                Object handler) {
+        record(request);
+    }
+
+    private void record (HttpServletRequest request) {
+        long statements = statementCounter.stop();
+        if (statements < 0) {
+            return;
+        }
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC)
+                .description("JDBC statements Hibernate prepared while handling one request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
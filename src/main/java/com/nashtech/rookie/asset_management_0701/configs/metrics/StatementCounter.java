@@ -0,0 +1,31 @@
+package com.nashtech.rookie.asset_management_0701.configs.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+// Hibernate hands every statement it prepares to the inspector on the thread running the query,
+// so a thread local tells how many statements one request issued, the global statistics cannot
+@Component
+public class StatementCounter implements StatementInspector {
+    private final ThreadLocal<long[]> count = new ThreadLocal<>();
+
+    @Override
+    public String inspect (String sql) {
+        long[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    public void start () {
+        count.set(new long[1]);
+    }
+
+    // -1 when nothing was started on this thread
+    public long stop () {
+        long[] current = count.get();
+        count.remove();
+        return current != null ? current[0] : -1;
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.nashtech.rookie.asset_management_0701.dtos.security.CurrentPrincipal;
+import com.nashtech.rookie.asset_management_0701.dtos.security.TokenClaims;
 import com.nashtech.rookie.asset_management_0701.enums.ERole;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
@@ -45,15 +47,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwtToken = authorizationHeader.replace(tokenPrefix, "");
-        final String userName = jwtService.extractUserName(jwtToken);
+        // one signature check per token, every claim below is read from this record
+        final TokenClaims claims = jwtService.parseToken(jwtToken);
+        final String userName = claims.username();
 
-        if (jwtService.extractExpiration(jwtToken).before(new Date())){
+        if (claims.expiration().before(new Date())){
             throw new AppException(ErrorCode.INVALID_TOKEN);
         }
 
         if (userName != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            EUserStatus status = jwtService.extractStatus(jwtToken);
+            EUserStatus status = claims.status();
 
             if (status == EUserStatus.FIRST_LOGIN
                     && !request.getRequestURI().endsWith("change-password")) {
@@ -64,17 +68,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 throw new AppException(ErrorCode.USER_NOT_FOUND);
             }
 
-            if (jwtService.tokenIsDisabled(securityData, jwtToken)){
+            if (jwtService.tokenIsRevoked(claims)){
                 throw new AppException(ErrorCode.INVALID_TOKEN);
             }
 
-            ERole role = jwtService.extractRole(jwtToken);
+            ERole role = claims.role();
 
             String scopes = jwtService.getAuthorities(role);
 
 
+            // services read the id and location from the principal instead of loading the user again
+            CurrentPrincipal principal = CurrentPrincipal.builder()
+                    .id(securityData.getId())
+                    .username(userName)
+                    .locationId(securityData.getLocationId())
+                    .role(role)
+                    .build();
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                    userName, null, AuthorityUtils.createAuthorityList(scopes));
+                    principal, null, AuthorityUtils.createAuthorityList(scopes));
             authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
         }
@@ -1,40 +1,46 @@
 package com.nashtech.rookie.asset_management_0701.configs.security;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nashtech.rookie.asset_management_0701.dtos.security.TokenClaims;
 import com.nashtech.rookie.asset_management_0701.dtos.security.UserSecurityData;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.ERole;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
-import com.nashtech.rookie.asset_management_0701.repositories.InvalidTokenRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
-import com.nashtech.rookie.asset_management_0701.services.user.UserSpecification;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class JwtService {
-
+    public static final String CLAIMS_CACHE = "jwtClaims";
 
     @Value("${application.jwt.secret-key}")
     private String secretKey;
@@ -42,35 +48,83 @@ public class JwtService {
     @Value("${application.jwt.expiration}")
     private Long expiration;
 
-    private final InvalidTokenRepository invalidTokenRepository;
+    @Value("${application.jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize;
+
+    private final TokenRevocationIndex revocationIndex;
 
     private final UserRepository userRepository;
 
-    private Claims extractAllClaims ( String jwtToken) {
+    private final CacheManager cacheManager;
+
+    private Key signInKey;
+
+    private JwtParser parser;
+
+    private Cache<String, TokenClaims> claimsCache;
+
+    @PostConstruct
+    public void init () {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        // a token's claims never change, so an entry lives exactly as long as the token is valid
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new TokenClaimsExpiry())
+                .recordStats()
+                .build();
+        if (cacheManager instanceof CaffeineCacheManager caffeineCacheManager) {
+            caffeineCacheManager.registerCustomCache(CLAIMS_CACHE, castCache(claimsCache));
+        }
+    }
 
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(jwtToken)
-                .getBody();
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> castCache (Cache<String, TokenClaims> cache) {
+        return (Cache<Object, Object>) (Cache<?, ?>) cache;
     }
 
-    public <T> T extractClaim ( String jwtToken, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(jwtToken);
-        return claimsResolver.apply(claims);
+    // verifies the token once, later calls for the same token are served from a cache keyed by its hash
+    public TokenClaims parseToken (String jwtToken) {
+        String tokenHash = hash(jwtToken);
+        TokenClaims cached = claimsCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = extractAllClaims(jwtToken);
+        TokenClaims tokenClaims = new TokenClaims(
+                claims.getSubject(),
+                claims.getId(),
+                claims.getExpiration(),
+                EUserStatus.valueOf((String) claims.get("status")),
+                ERole.valueOf((String) claims.get("type")));
+        claimsCache.put(tokenHash, tokenClaims);
+        return tokenClaims;
+    }
+
+    private static String hash (String jwtToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jwtToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Claims extractAllClaims ( String jwtToken) {
+        return parser.parseClaimsJws(jwtToken).getBody();
     }
 
     public String extractUserName ( String jwtToken) {
-        return extractClaim(jwtToken, Claims::getSubject);
+        return parseToken(jwtToken).username();
     }
 
     public String extractIdToken ( String token) {
-        return extractClaim(token, Claims::getId);
+        return parseToken(token).idToken();
     }
 
     public boolean isTokenValid ( String jwtToken) {
-        String idToken = extractIdToken(jwtToken);
-        return !invalidTokenRepository.existsByIdToken(idToken) && !isTokenExpired(jwtToken);
+        return !tokenIsRevoked(parseToken(jwtToken)) && !isTokenExpired(jwtToken);
     }
 
     private boolean isTokenExpired ( String jwtToken) {
@@ -78,15 +132,15 @@ public class JwtService {
     }
 
     public Date extractExpiration (String jwtToken) {
-        return extractClaim(jwtToken, Claims::getExpiration);
+        return parseToken(jwtToken).expiration();
     }
 
     public EUserStatus extractStatus (String jwtToken) {
-        return EUserStatus.valueOf((String) extractClaim(jwtToken, claims -> claims.get("status")));
+        return parseToken(jwtToken).status();
     }
 
     public ERole extractRole (String jwtToken) {
-        return ERole.valueOf((String) extractClaim(jwtToken, claims -> claims.get("type")));
+        return parseToken(jwtToken).role();
     }
 
     public String generateToken (User user) {
@@ -99,30 +153,25 @@ public class JwtService {
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(
                         Instant.now().plus(expiration, ChronoUnit.SECONDS).toEpochMilli()))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .setId(UUID.randomUUID().toString())
                 .compact();
     }
 
-    private Key getSignInKey () {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     public String getAuthorities (ERole role) {
         return "ROLE_" + role.toString(); // "ROLE_USER READ WRITE"
     }
 
-    @Cacheable(value = "userDisable")
+    // sync lets one request load a cold entry while the others wait, and records the load time
+    @Cacheable(value = "userDisable", sync = true)
     public UserSecurityData getSecurityData (String username){
-        User user = userRepository.findOne(
-            Specification.where(UserSpecification.tokenNotExpireForUsername(username)))
+        User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
         return UserSecurityData.builder()
             .id(user.getId())
+            .locationId(user.getLocation() == null ? null : user.getLocation().getId())
+            .role(user.getRole())
             .status(user.getStatus())
-            .invalidTokens(user.getInvalidTokens()
-                    .stream().map(token -> token.getIdToken()).collect(Collectors.toSet()))
             .build();
     }
 
@@ -130,7 +179,7 @@ public class JwtService {
         return data.getStatus().equals(EUserStatus.DISABLED);
     }
 
-    public boolean tokenIsDisabled (UserSecurityData data, String token) {
-        return data.getInvalidTokens().contains(token);
+    public boolean tokenIsRevoked (TokenClaims claims) {
+        return revocationIndex.isRevoked(claims.idToken(), claims.expiration().toInstant());
     }
 }
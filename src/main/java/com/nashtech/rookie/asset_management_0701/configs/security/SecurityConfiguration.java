@@ -23,9 +23,11 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfiguration {
 
     private static final String[] PUBLIC_ENDPOINTS = {
-        "/api/v1/auth/**", "/swagger-ui/**", "/api-docs/**",
+        "/api/v1/auth/**", "/swagger-ui/**", "/api-docs/**", "/actuator/health",
     };
 
+    private static final String[] ADMIN_ENDPOINTS = {"/actuator/prometheus"};
+
     private static final String[] ALLOWED_METHODS = {"GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"};
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -49,6 +51,8 @@ public class SecurityConfiguration {
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
                         .requestMatchers(PUBLIC_ENDPOINTS)
                         .permitAll()
+                        .requestMatchers(ADMIN_ENDPOINTS)
+                        .hasRole("ADMIN")
                         .anyRequest()
                         .authenticated())
                 .sessionManagement(
@@ -0,0 +1,24 @@
+package com.nashtech.rookie.asset_management_0701.configs.security;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nashtech.rookie.asset_management_0701.dtos.security.TokenClaims;
+
+class TokenClaimsExpiry implements Expiry<String, TokenClaims> {
+    @Override
+    public long expireAfterCreate (String tokenHash, TokenClaims claims, long currentTime) {
+        return Math.max(Duration.between(Instant.now(), claims.expiration().toInstant()).toNanos(), 0);
+    }
+
+    @Override
+    public long expireAfterUpdate (String tokenHash, TokenClaims claims, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead (String tokenHash, TokenClaims claims, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,90 @@
+package com.nashtech.rookie.asset_management_0701.configs.security;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nashtech.rookie.asset_management_0701.entities.InvalidToken;
+import com.nashtech.rookie.asset_management_0701.repositories.InvalidTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// revoked token ids grouped by the time window their token expires in, so the auth path never reads the database
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationIndex {
+
+    @Value("${application.jwt.revocation.bucket-width:60}")
+    private long bucketWidthSeconds;
+
+    private final InvalidTokenRepository invalidTokenRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    public void revoke (String idToken, Instant expiry) {
+        // an expired token is already rejected, keeping it would only hold memory
+        if (!expiry.isAfter(Instant.now())) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiry), key -> ConcurrentHashMap.newKeySet()).add(idToken);
+    }
+
+    // the expiry comes from the token itself, so a lookup probes exactly one bucket
+    public boolean isRevoked (String idToken, Instant expiry) {
+        Set<String> bucket = buckets.get(bucketOf(expiry));
+        return bucket != null && bucket.contains(idToken);
+    }
+
+    public int size () {
+        return buckets.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // whole buckets are dropped once every token in them has expired
+    @Scheduled(fixedDelayString = "${application.jwt.revocation.purge-interval:60000}")
+    public void purgeExpired () {
+        buckets.headMap(bucketOf(Instant.now())).clear();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp () {
+        for (InvalidToken token : invalidTokenRepository.findByExpiryDateAfter(Instant.now())) {
+            String idToken = toIdToken(token.getIdToken());
+            if (idToken != null) {
+                revoke(idToken, token.getExpiryDate());
+            }
+        }
+        log.info("Loaded {} revoked tokens", size());
+    }
+
+    private long bucketOf (Instant expiry) {
+        return expiry.getEpochSecond() / bucketWidthSeconds;
+    }
+
+    // rows written before this change stored the whole token in id_token, its jti is read from the payload
+    private String toIdToken (String stored) {
+        String[] parts = stored.split("\\.");
+        if (parts.length != 3) {
+            return stored;
+        }
+        try {
+            return objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1])).path("jti").asText(null);
+        }
+        catch (IllegalArgumentException | IOException e) {
+            log.warn("Skipping unreadable revoked token");
+            return null;
+        }
+    }
+}
@@ -8,6 +8,7 @@ public final class DefaultSortOptions {
     public static final Integer MAX_PAGE_SIZE = 100;
     public static final String DEFAULT_USER_SORT_BY = "firstName";
     public static final String DEFAULT_SORT_ORDER = "ASC";
+    public static final String DEFAULT_COUNT_MODE = "exact";
     public static final List<String> SYSTEM_ROLE = List.of("ADMIN", "STAFF");
     private DefaultSortOptions () {
     }
@@ -1,6 +1,11 @@
 package com.nashtech.rookie.asset_management_0701.controllers;
 
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,15 +15,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.nashtech.rookie.asset_management_0701.dtos.filters.AssetFilter;
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetBatchCreateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetCreateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetUpdateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.APIResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetBatchService;
 import com.nashtech.rookie.asset_management_0701.services.asset.AssetService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +39,7 @@ import lombok.RequiredArgsConstructor;
 public class AssetController {
 
     private final AssetService assetService;
+    private final AssetBatchService assetBatchService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -39,6 +50,16 @@ public class AssetController {
                 .build();
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("hasRole('ADMIN')")
+    public APIResponse<List<AssetResponseDto>> createAssets (
+            @Valid @RequestBody AssetBatchCreateDto assetBatchCreateDto) {
+        return APIResponse.<List<AssetResponseDto>>builder()
+                .result(assetBatchService.createAssets(assetBatchCreateDto))
+                .build();
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public APIResponse<PaginationResponse<AssetResponseDto>> getAllAssets (@Valid @ModelAttribute AssetFilter filter) {
@@ -47,6 +68,17 @@ public class AssetController {
                 .build();
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportAssets (@RequestParam(defaultValue = "csv") String format) {
+        EExportFormat exportFormat = EExportFormat.fromExtension(format);
+        StreamingResponseBody body = outputStream -> assetService.exportAssets(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=assets." + exportFormat.getExtension())
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public APIResponse<AssetResponseDto> getAssetById (@PathVariable Long id) {
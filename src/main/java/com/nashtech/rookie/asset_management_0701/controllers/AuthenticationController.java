@@ -1,6 +1,9 @@
 package com.nashtech.rookie.asset_management_0701.controllers;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.auth.AuthenticationRequest;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.APIResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.AuthenticationResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.TokenSweepResponse;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.services.auth.AuthenticationService;
@@ -23,12 +27,15 @@ public class AuthenticationController {
 
     private final AuthenticationService authenticationService;
 
+    // the request thread is released while the password is verified on the hashing pool
     @PostMapping("/login")
-    public APIResponse<AuthenticationResponse> login (@RequestBody @Valid AuthenticationRequest request) {
+    public CompletableFuture<APIResponse<AuthenticationResponse>> login (
+            @RequestBody @Valid AuthenticationRequest request) {
 
-        return APIResponse.<AuthenticationResponse>builder()
-                .result(authenticationService.login(request))
-                .build();
+        return authenticationService.login(request)
+                .thenApply(response -> APIResponse.<AuthenticationResponse>builder()
+                        .result(response)
+                        .build());
     }
 
     @PostMapping("/logout")
@@ -47,4 +54,12 @@ public class AuthenticationController {
 
         return APIResponse.<String>builder().message("You have log out successfully").build();
     }
+
+    @GetMapping("/token-sweep")
+    @PreAuthorize("hasRole('ADMIN')")
+    public APIResponse<TokenSweepResponse> getTokenSweepStats () {
+        return APIResponse.<TokenSweepResponse>builder()
+                .result(authenticationService.getTokenSweepStats())
+                .build();
+    }
 }
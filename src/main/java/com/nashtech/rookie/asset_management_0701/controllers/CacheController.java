@@ -0,0 +1,28 @@
+package com.nashtech.rookie.asset_management_0701.controllers;
+
+import java.util.List;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.APIResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.cache.CacheStatsResponse;
+import com.nashtech.rookie.asset_management_0701.services.cache.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/caches")
+@RequiredArgsConstructor
+public class CacheController {
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public APIResponse<List<CacheStatsResponse>> getCacheStats () {
+        return APIResponse.<List<CacheStatsResponse>>builder()
+                .result(cacheStatsService.getCacheStats())
+                .build();
+    }
+}
@@ -1,18 +1,28 @@
 package com.nashtech.rookie.asset_management_0701.controllers;
 
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.nashtech.rookie.asset_management_0701.dtos.responses.APIResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.report.ReportExportJobResponse;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportExportJob;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportExportService;
 import com.nashtech.rookie.asset_management_0701.services.report.ReportService;
 import lombok.RequiredArgsConstructor;
 
@@ -20,8 +30,8 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/v1/reports")
 @RequiredArgsConstructor
 public class ReportController {
-
     private final ReportService reportService;
+    private final ReportExportService reportExportService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -30,21 +40,59 @@ public class ReportController {
             , @RequestParam(defaultValue = "10") Integer pageSize
             , @RequestParam(defaultValue = "id") String orderBy
             , @RequestParam(defaultValue = "asc") String sortDir
+            , @RequestParam(defaultValue = "false") Boolean allLocations
     ) {
         return APIResponse.<PaginationResponse<ReportResponse>>builder()
-                .result(reportService.getReport(pageNumber, pageSize, orderBy, sortDir))
+                .result(reportService.getReport(pageNumber, pageSize, orderBy, sortDir, allLocations))
                 .build();
     }
 
     @GetMapping("/export")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Resource> exportReport (
+    public ResponseEntity<StreamingResponseBody> exportReport (
             @RequestParam(defaultValue = "id") String orderBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") Boolean allLocations,
+            @RequestParam(defaultValue = "xlsx") String format) {
+        EExportFormat exportFormat = EExportFormat.fromExtension(format);
+        StreamingResponseBody body = outputStream ->
+                reportService.exportReport(orderBy, sortDir, allLocations, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=report." + exportFormat.getExtension())
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .body(body);
+    }
+
+    @PostMapping("/exports")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PreAuthorize("hasRole('ADMIN')")
+    public APIResponse<ReportExportJobResponse> submitExport (
+            @RequestParam(defaultValue = "id") String orderBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") Boolean allLocations,
+            @RequestParam(defaultValue = "xlsx") String format) {
+        return APIResponse.<ReportExportJobResponse>builder()
+                .result(reportExportService.submitExport(orderBy, sortDir, allLocations,
+                        EExportFormat.fromExtension(format)))
+                .build();
+    }
+
+    @GetMapping("/exports/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public APIResponse<ReportExportJobResponse> getExport (@PathVariable String jobId) {
+        return APIResponse.<ReportExportJobResponse>builder()
+                .result(reportExportService.getExport(jobId))
+                .build();
+    }
+
+    @GetMapping("/exports/{jobId}/download")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Resource> downloadExport (@PathVariable String jobId) {
+        ReportExportJob job = reportExportService.getCompletedExport(jobId);
+        EExportFormat exportFormat = job.getFormat();
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=report.xlsx")
-                .contentType(MediaType
-                        .parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(reportService.exportReport(orderBy, sortDir));
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=report." + exportFormat.getExtension())
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .body(new FileSystemResource(job.getFile()));
     }
 }
@@ -0,0 +1,32 @@
+package com.nashtech.rookie.asset_management_0701.controllers;
+
+import java.util.List;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.APIResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.SuggestionResponse;
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+import com.nashtech.rookie.asset_management_0701.services.search.SuggestService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+    private final SuggestService suggestService;
+
+    @GetMapping("/suggest")
+    @PreAuthorize("hasRole('ADMIN')")
+    public APIResponse<List<SuggestionResponse>> suggest (@RequestParam String type,
+                                                          @RequestParam(defaultValue = "") String query,
+                                                          @RequestParam(required = false) Integer limit) {
+        return APIResponse.<List<SuggestionResponse>>builder()
+                .result(suggestService.suggest(ESuggestType.fromValue(type), query, limit))
+                .build();
+    }
+}
@@ -41,6 +41,12 @@ public class AssetFilter {
     @Builder.Default
     Integer pageSize = 20;
 
+    String cursor;
+
+    @Pattern(regexp = "exact|estimate|none|EXACT|ESTIMATE|NONE", message = "INVALID_COUNT_MODE")
+    @Builder.Default
+    String countMode = "exact";
+
     public void setPageNumber (String pageNumber) {
         this.pageNumber = PageSortUtil.parsePageValue(pageNumber, 1);
     }
@@ -0,0 +1,25 @@
+package com.nashtech.rookie.asset_management_0701.dtos.requests.asset;
+
+import java.util.List;
+
+import com.nashtech.rookie.asset_management_0701.validators.field_not_null.FieldNotNullConstraint;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AssetBatchCreateDto {
+
+    @FieldNotNullConstraint(field = "assets", message = "FIELD_NOT_NULL")
+    @Size(min = 1, max = 500, message = "ASSET_BATCH_SIZE_OUT_OF_RANGE")
+    List<@Valid AssetCreateDto> assets;
+}
@@ -21,4 +21,7 @@ public class UserSearchDto {
     private Integer pageNumber = DefaultSortOptions.DEFAULT_PAGE_NUMBER;
     @Min(value = 1, message = "PAGE_SIZE_LESS_THAN_ONE")
     private Integer pageSize = DefaultSortOptions.DEFAULT_PAGE_SIZE;
+    private String cursor;
+    @Pattern(regexp = "exact|estimate|none|EXACT|ESTIMATE|NONE", message = "INVALID_COUNT_MODE")
+    private String countMode = DefaultSortOptions.DEFAULT_COUNT_MODE;
 }
@@ -0,0 +1,6 @@
+package com.nashtech.rookie.asset_management_0701.dtos.responses;
+
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+
+public record CategoryStateAmount(Long categoryId, Long locationId, EAssetState state, Long amount) {
+}
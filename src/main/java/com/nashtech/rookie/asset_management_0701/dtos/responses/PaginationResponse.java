@@ -19,7 +19,8 @@ import lombok.Setter;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class PaginationResponse<T> {
     private Long total;
-    private int page;
+    private Integer page;
     private int itemsPerPage;
     private List<T> data;
+    private String nextCursor;
 }
@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 public class ReportResponse {
     Long categoryId;
     String categoryName;
+    Long locationId;
+    String locationName;
     Long total;
     Long assignedCount;
     Long availableCount;
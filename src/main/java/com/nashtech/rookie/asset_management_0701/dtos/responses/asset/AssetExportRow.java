@@ -0,0 +1,9 @@
+package com.nashtech.rookie.asset_management_0701.dtos.responses.asset;
+
+import java.time.LocalDate;
+
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+
+public record AssetExportRow(Long id, String assetCode, String name, String category, EAssetState state,
+                             LocalDate installDate, String location, String specification) {
+}
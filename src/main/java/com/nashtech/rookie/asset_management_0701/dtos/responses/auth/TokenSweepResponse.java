@@ -0,0 +1,22 @@
+package com.nashtech.rookie.asset_management_0701.dtos.responses.auth;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenSweepResponse {
+    private Instant lastRunAt;
+    private Long lastDurationMillis;
+    private Long lastDeletedCount;
+    private Long runCount;
+    private Long totalDeletedCount;
+}
@@ -0,0 +1,26 @@
+package com.nashtech.rookie.asset_management_0701.dtos.responses.report;
+
+import java.time.Instant;
+
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.enums.EExportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportExportJobResponse {
+    private String jobId;
+
+    private EExportFormat format;
+
+    private EExportJobStatus status;
+
+    private Instant createdAt;
+
+    private Instant finishedAt;
+}
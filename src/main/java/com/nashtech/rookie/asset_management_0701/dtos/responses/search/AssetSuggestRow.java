@@ -0,0 +1,4 @@
+package com.nashtech.rookie.asset_management_0701.dtos.responses.search;
+
+public record AssetSuggestRow(Long id, String assetCode, String name, Long locationId) {
+}
@@ -0,0 +1,18 @@
+package com.nashtech.rookie.asset_management_0701.dtos.responses.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionResponse {
+    private Long id;
+    private String code;
+    private String label;
+}
@@ -0,0 +1,5 @@
+package com.nashtech.rookie.asset_management_0701.dtos.responses.search;
+
+public record UserSuggestRow(Long id, String staffCode, String firstName, String lastName, String username,
+                             Long locationId) {
+}
@@ -0,0 +1,23 @@
+package com.nashtech.rookie.asset_management_0701.dtos.security;
+
+import java.security.Principal;
+
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CurrentPrincipal implements Principal {
+    private final Long id;
+    private final String username;
+    private final Long locationId;
+    private final ERole role;
+
+    @Override
+    public String getName () {
+        return username;
+    }
+}
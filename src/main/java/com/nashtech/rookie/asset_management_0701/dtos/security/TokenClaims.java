@@ -0,0 +1,9 @@
+package com.nashtech.rookie.asset_management_0701.dtos.security;
+
+import java.util.Date;
+
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+
+public record TokenClaims(String username, String idToken, Date expiration, EUserStatus status, ERole role) {
+}
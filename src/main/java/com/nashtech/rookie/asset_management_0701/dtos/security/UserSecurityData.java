@@ -1,7 +1,6 @@
 package com.nashtech.rookie.asset_management_0701.dtos.security;
 
-import java.util.Set;
-
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +9,7 @@ import lombok.Data;
 @Builder
 public class UserSecurityData {
     private Long id;
+    private Long locationId;
+    private ERole role;
     private EUserStatus status;
-    private Set<String> invalidTokens;
 }
@@ -6,16 +6,19 @@ import java.util.Set;
 import org.hibernate.annotations.ColumnDefault;
 
 import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountInvalidator;
+import com.nashtech.rookie.asset_management_0701.services.search.SuggestIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
@@ -30,11 +33,14 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "assets", indexes = {@Index(name = "idx_asset_category_id", columnList = "category_id")})
+@EntityListeners({PageCountInvalidator.class, SuggestIndexListener.class})
+@Table(name = "assets")
 public class Asset extends AuditEntity<String> {
 
+    // a sequence lets Hibernate assign ids up front and batch the inserts, identity forces one insert per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assets_seq")
+    @SequenceGenerator(name = "assets_seq", sequenceName = "assets_seq", allocationSize = 50)
     private Long id;
 
     @Column
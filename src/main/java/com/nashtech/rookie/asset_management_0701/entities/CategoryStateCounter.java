@@ -0,0 +1,51 @@
+package com.nashtech.rookie.asset_management_0701.entities;
+
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "category_state_counters",
+        uniqueConstraints = {@UniqueConstraint(name = "uk_category_location_state",
+                columnNames = {"category_id", "location_id", "state"})})
+public class CategoryStateCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_state_counters_seq")
+    @SequenceGenerator(name = "category_state_counters_seq", sequenceName = "category_state_counters_seq",
+            allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Category category;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Location location;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EAssetState state;
+
+    @Column(nullable = false)
+    private Long amount;
+}
@@ -2,7 +2,9 @@ package com.nashtech.rookie.asset_management_0701.entities;
 import java.time.LocalDate;
 
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentReturnState;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountInvalidator;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -10,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,11 +27,13 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(PageCountInvalidator.class)
 @Table(name = "returning_requests")
 public class ReturningRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "returning_requests_seq")
+    @SequenceGenerator(name = "returning_requests_seq", sequenceName = "returning_requests_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
@@ -1,6 +1,7 @@
 package com.nashtech.rookie.asset_management_0701.entities;
 
 import java.time.LocalDate;
+import java.util.Locale;
 import java.util.Set;
 
 import org.hibernate.annotations.ColumnDefault;
@@ -8,8 +9,11 @@ import org.hibernate.annotations.ColumnDefault;
 import com.nashtech.rookie.asset_management_0701.enums.EGender;
 import com.nashtech.rookie.asset_management_0701.enums.ERole;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountInvalidator;
+import com.nashtech.rookie.asset_management_0701.services.search.SuggestIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -18,6 +22,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
@@ -32,17 +39,22 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners({PageCountInvalidator.class, SuggestIndexListener.class})
 @Table(name = "users")
 public class User extends AuditEntity<String> {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     private String firstName;
 
     private String lastName;
 
+    // lower-cased "first last", kept on the row so name search can use a trigram index
+    private String searchName;
+
     @Column(unique = true)
     private String username;
 
@@ -74,6 +86,14 @@ public class User extends AuditEntity<String> {
     @ColumnDefault("0")
     private Long version;
 
+    @PrePersist
+    @PreUpdate
+    public void updateSearchName () {
+        this.searchName = firstName == null || lastName == null
+                ? null
+                : (firstName + " " + lastName).toLowerCase(Locale.ROOT);
+    }
+
     public void generateStaffCode () {
         this.setStaffCode(String.format("SD%04d", getId()));
     }
@@ -0,0 +1,19 @@
+package com.nashtech.rookie.asset_management_0701.enums;
+
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+
+public enum ECountMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    public static ECountMode fromValue (String value) {
+        for (ECountMode countMode : values()) {
+            if (countMode.name().equalsIgnoreCase(value)) {
+                return countMode;
+            }
+        }
+        throw new AppException(ErrorCode.INVALID_COUNT_MODE);
+    }
+}
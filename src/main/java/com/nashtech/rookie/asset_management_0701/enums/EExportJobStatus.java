@@ -0,0 +1,8 @@
+package com.nashtech.rookie.asset_management_0701.enums;
+
+public enum EExportJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
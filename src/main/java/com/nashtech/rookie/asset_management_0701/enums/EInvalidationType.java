@@ -0,0 +1,11 @@
+package com.nashtech.rookie.asset_management_0701.enums;
+
+public enum EInvalidationType {
+    EVICT,
+    CLEAR,
+    REVOKE_TOKEN,
+    // a suggest index entry changed, the suggest type travels as the cache name and the entity id as the key
+    REINDEX,
+    // the bus may have lost events, everything held locally has to be reloaded
+    RESYNC
+}
@@ -0,0 +1,18 @@
+package com.nashtech.rookie.asset_management_0701.enums;
+
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+
+public enum ESuggestType {
+    ASSET,
+    USER;
+
+    public static ESuggestType fromValue (String value) {
+        for (ESuggestType suggestType : values()) {
+            if (suggestType.name().equalsIgnoreCase(value)) {
+                return suggestType;
+            }
+        }
+        throw new AppException(ErrorCode.INVALID_SUGGEST_TYPE);
+    }
+}
@@ -24,6 +24,10 @@ public enum ErrorCode {
     INVALID_SORT_DIR(1010, "Sort direction must be ASC or DESC", HttpStatus.BAD_REQUEST),
     INVALID_SORT_FIELD(1011, "Invalid sort field", HttpStatus.BAD_REQUEST),
     DATA_IS_OLD(1012, "Data is old, please refresh", HttpStatus.CONFLICT),
+    INVALID_CURSOR(1013, "Invalid page cursor", HttpStatus.BAD_REQUEST),
+    INVALID_COUNT_MODE(1014, "Count mode must be exact, estimate or none", HttpStatus.BAD_REQUEST),
+    INVALID_SUGGEST_TYPE(1015, "Suggest type must be asset or user", HttpStatus.BAD_REQUEST),
+    TOO_MANY_LOGIN_ATTEMPTS(1016, "Too many login attempts, please try again later", HttpStatus.TOO_MANY_REQUESTS),
 
     // User
     EXCEED_MAX_FIRSTNAME(1100, "First name must not exceed {max} characters", HttpStatus.BAD_REQUEST),
@@ -65,6 +69,8 @@ public enum ErrorCode {
     ASSET_STATE_NOT_AVAILABLE(1305, "Asset state is not available", HttpStatus.BAD_REQUEST),
     ASSET_LOCATION_INVALID_WITH_ADMIN(1306, "Asset location must be the same with creator location"
             , HttpStatus.BAD_REQUEST),
+    ASSET_BATCH_SIZE_OUT_OF_RANGE(1307, "A batch must contain between {min} and {max} assets", HttpStatus.BAD_REQUEST),
+    ASSET_CODE_EXHAUSTED(1308, "Category has no asset codes left", HttpStatus.CONFLICT),
 
     // Assignment
     ASSIGNMENT_NOT_FOUND(1401, "Assignment not found", HttpStatus.NOT_FOUND),
@@ -80,6 +86,10 @@ public enum ErrorCode {
     RETURNING_REQUEST_SAME_LOCATION(1503, "Admin must have the same location with assignment", HttpStatus.BAD_REQUEST),
     // Report
     EXPORT_REPORT_ERROR(1601, "Cannot export report file", HttpStatus.NOT_FOUND),
+    REPORT_EXPORT_NOT_FOUND(1602, "Report export not found", HttpStatus.NOT_FOUND),
+    REPORT_EXPORT_NOT_READY(1603, "Report export is not ready", HttpStatus.CONFLICT),
+    REPORT_EXPORT_QUEUE_FULL(1604, "Too many report exports, please try again later", HttpStatus.TOO_MANY_REQUESTS),
+    UNSUPPORTED_EXPORT_FORMAT(1605, "Export format must be any of xlsx, csv, ndjson", HttpStatus.BAD_REQUEST),
     // constraint violation
     INVALID_PASSWORD(2001, "Password must be at least 8 characters less than 128 characters " +
             "contains at least 1 uppercase, " +
@@ -15,6 +15,7 @@ public interface UserMapper {
     @Mapping(target = "staffCode", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "location", ignore = true)
+    @Mapping(target = "searchName", ignore = true)
     User toUser (UserRequest userRequest);
 
     @Mapping(source = "role", target = "type")
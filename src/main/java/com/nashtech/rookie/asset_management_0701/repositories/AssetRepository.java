@@ -1,12 +1,52 @@
 package com.nashtech.rookie.asset_management_0701.repositories;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import com.nashtech.rookie.asset_management_0701.dtos.responses.CategoryStateAmount;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetExportRow;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.AssetSuggestRow;
 import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecificationExecutor<Asset> {
     Long countByAssetCodeStartingWith (String code);
+
+    @Query("select new com.nashtech.rookie.asset_management_0701.dtos.responses.CategoryStateAmount " +
+            "(a.category.id, a.location.id, a.state, count(a.id)) " +
+            "from Asset a " +
+            "group by a.category.id, a.location.id, a.state")
+    List<CategoryStateAmount> getCategoryStateAmounts ();
+
+    @Query("select new com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetExportRow " +
+            "(a.id, a.assetCode, a.name, c.name, a.state, a.installDate, l.name, a.specification) " +
+            "from Asset a " +
+            "join a.category c " +
+            "join a.location l " +
+            "where l.id = :locationId " +
+            "order by a.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AssetExportRow> streamInventory (Long locationId);
+
+    @Query("select new com.nashtech.rookie.asset_management_0701.dtos.responses.search.AssetSuggestRow " +
+            "(a.id, a.assetCode, a.name, a.location.id) " +
+            "from Asset a " +
+            "order by a.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<AssetSuggestRow> streamSuggestRows ();
+
+    @Query("select new com.nashtech.rookie.asset_management_0701.dtos.responses.search.AssetSuggestRow " +
+            "(a.id, a.assetCode, a.name, a.location.id) " +
+            "from Asset a " +
+            "where a.id = ?1")
+    Optional<AssetSuggestRow> findSuggestRow (Long id);
 }
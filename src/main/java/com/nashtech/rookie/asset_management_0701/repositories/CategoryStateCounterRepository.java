@@ -0,0 +1,58 @@
+package com.nashtech.rookie.asset_management_0701.repositories;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
+import com.nashtech.rookie.asset_management_0701.entities.CategoryStateCounter;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface CategoryStateCounterRepository extends JpaRepository<CategoryStateCounter, Long> {
+
+    String REPORT_QUERY = "select new com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse " +
+            "(c.id, c.name, l.id, l.name, sum(s.amount)," +
+            "sum(case when s.state = 'ASSIGNED' then s.amount else 0L end)," +
+            "sum(case when s.state = 'AVAILABLE' then s.amount else 0L end)," +
+            "sum(case when s.state = 'NOT_AVAILABLE' then s.amount else 0L end)," +
+            "sum(case when s.state = 'WAITING_FOR_RECYCLE' then s.amount else 0L end)," +
+            "sum(case when s.state = 'RECYCLED' then s.amount else 0L end)) " +
+            "from Category c " +
+            "join CategoryStateCounter s " +
+            "on c.id = s.category.id " +
+            "join s.location l " +
+            "where l.id = :locationId " +
+            "group by c.id, c.name, l.id, l.name " +
+            "having sum(s.amount) > 0";
+
+    @Modifying
+    @Query("update CategoryStateCounter s set s.amount = s.amount + :delta " +
+            "where s.category.id = :categoryId and s.location.id = :locationId and s.state = :state")
+    int addAmount (Long categoryId, Long locationId, EAssetState state, Long delta);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CategoryStateCounter s")
+    List<CategoryStateCounter> findAllForUpdate ();
+
+    @Query(value = REPORT_QUERY,
+            countQuery = "select count(distinct s.category.id) from CategoryStateCounter s " +
+                    "where s.location.id = :locationId and s.amount > 0")
+    Page<ReportResponse> getReport (Long locationId, Pageable pageable);
+
+    @Query(REPORT_QUERY)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ReportResponse> streamReport (Long locationId, Sort sort);
+}
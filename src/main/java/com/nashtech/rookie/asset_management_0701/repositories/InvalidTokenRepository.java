@@ -1,7 +1,9 @@
 package com.nashtech.rookie.asset_management_0701.repositories;
 
 import java.time.Instant;
+import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,7 +16,12 @@ public interface InvalidTokenRepository extends JpaRepository<InvalidToken, Stri
 
     boolean existsByIdToken (String idToken);
 
+    List<InvalidToken> findByExpiryDateAfter (Instant now);
+
+    @Query("select it.idToken from InvalidToken it where it.expiryDate < ?1 order by it.idToken")
+    List<String> findExpiredIds (Instant now, Limit limit);
+
     @Modifying
-    @Query("delete from InvalidToken it where it.expiryDate < ?1")
-    void deleteExpiredTokens (Instant now);
+    @Query("delete from InvalidToken it where it.expiryDate < ?1 and it.idToken <= ?2")
+    int deleteExpiredUpTo (Instant now, String lastId);
 }
@@ -1,14 +1,23 @@
 package com.nashtech.rookie.asset_management_0701.repositories;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.UserSuggestRow;
 import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
@@ -20,4 +29,24 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     long count (Specification<User> spec);
 
     Optional<User> findByIdAndLocation (Long id, Location location);
+
+    // touches only the hash, so a rehash on login never conflicts with an admin editing the user
+    @Transactional
+    @Modifying
+    @Query("update User u set u.hashPassword = ?2 where u.id = ?1")
+    int updateHashPassword (Long id, String hashPassword);
+
+    @Query("select new com.nashtech.rookie.asset_management_0701.dtos.responses.search.UserSuggestRow " +
+            "(u.id, u.staffCode, u.firstName, u.lastName, u.username, u.location.id) " +
+            "from User u " +
+            "where u.status <> ?1 " +
+            "order by u.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<UserSuggestRow> streamSuggestRows (EUserStatus excludedStatus);
+
+    @Query("select new com.nashtech.rookie.asset_management_0701.dtos.responses.search.UserSuggestRow " +
+            "(u.id, u.staffCode, u.firstName, u.lastName, u.username, u.location.id) " +
+            "from User u " +
+            "where u.id = ?1 and u.status <> ?2")
+    Optional<UserSuggestRow> findSuggestRow (Long id, EUserStatus excludedStatus);
 }
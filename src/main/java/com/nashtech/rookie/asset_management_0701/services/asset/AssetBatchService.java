@@ -0,0 +1,10 @@
+package com.nashtech.rookie.asset_management_0701.services.asset;
+
+import java.util.List;
+
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetBatchCreateDto;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
+
+public interface AssetBatchService {
+    List<AssetResponseDto> createAssets (AssetBatchCreateDto assetBatchCreateDto);
+}
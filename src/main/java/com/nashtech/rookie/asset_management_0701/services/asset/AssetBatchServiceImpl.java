@@ -0,0 +1,91 @@
+package com.nashtech.rookie.asset_management_0701.services.asset;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetBatchCreateDto;
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetCreateDto;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.mappers.AssetMapper;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
+import com.nashtech.rookie.asset_management_0701.utils.asset_utils.AssetUtil;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class AssetBatchServiceImpl implements AssetBatchService {
+    private final AssetRepository assetRepository;
+    private final AssetMapper assetMapper;
+    private final CategoryRepository categoryRepository;
+    private final AssetCodeAllocator assetCodeAllocator;
+    private final AuthUtil authUtil;
+    private final ReportCounterService reportCounterService;
+    private final TransactionTemplate transactionTemplate;
+
+    // as for a single create, the ranges are reserved between the lookup and the insert transactions
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AssetResponseDto> createAssets (AssetBatchCreateDto assetBatchCreateDto) {
+        List<AssetCreateDto> requests = assetBatchCreateDto.getAssets();
+        requests.forEach(request -> AssetUtil.validateInstallDate(request.getInstallDate()));
+
+        Set<String> names = requests.stream().map(AssetCreateDto::getCategory).collect(Collectors.toSet());
+        Map<String, Category> categories = transactionTemplate
+                .execute(status -> categoryRepository.findByNameIn(names))
+                .stream()
+                .collect(Collectors.toMap(Category::getName, Function.identity()));
+        Map<Long, Long> amounts = new HashMap<>();
+        for (AssetCreateDto request : requests) {
+            Category category = categories.get(request.getCategory());
+            if (category == null) {
+                throw new AppException(ErrorCode.CATEGORY_NOT_FOUND);
+            }
+            amounts.merge(category.getId(), 1L, Long::sum);
+        }
+        Map<Long, Long> lastNumbers = reserveCodes(amounts);
+
+        return transactionTemplate.execute(status -> {
+            Location location = authUtil.getCurrentLocation();
+            List<Asset> assets = new ArrayList<>(requests.size());
+            for (AssetCreateDto request : requests) {
+                Category category = categories.get(request.getCategory());
+                Asset asset = assetMapper.toAsset(request);
+                asset.setCategory(category);
+                asset.setLocation(location);
+                asset.setAssetCode(AssetUtil.generateAssetCode(
+                        lastNumbers.merge(category.getId(), 1L, Long::sum), category.getCode()));
+                assets.add(asset);
+            }
+
+            // sequence ids let the inserts go out in JDBC batches of hibernate.jdbc.batch_size
+            assetRepository.saveAll(assets);
+            reportCounterService.applyCreated(assets);
+            return assets.stream().map(assetMapper::toAssetResponseDto).toList();
+        });
+    }
+
+    private Map<Long, Long> reserveCodes (Map<Long, Long> amounts) {
+        Map<Long, Long> lastNumbers = new HashMap<>();
+        amounts.forEach((categoryId, amount) ->
+                lastNumbers.put(categoryId, assetCodeAllocator.allocate(categoryId, amount) - 1));
+        return lastNumbers;
+    }
+}
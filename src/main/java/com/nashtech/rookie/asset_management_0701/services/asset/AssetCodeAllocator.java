@@ -0,0 +1,102 @@
+package com.nashtech.rookie.asset_management_0701.services.asset;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.utils.asset_utils.AssetUtil;
+
+// hands out asset numbers per category from blocks reserved on Category.countAmount, none of the creates
+// holds the category row lock until commit. blocks of one keep the codes gapless and in creation order,
+// larger blocks save trips to the row at the cost of both, see application.asset.code.block-size
+@Component
+public class AssetCodeAllocator {
+    private final CategoryRepository categoryRepository;
+
+    private final TransactionTemplate reserveTransaction;
+
+    private final Map<Long, CodeBlock> blocks = new ConcurrentHashMap<>();
+
+    @Value("${application.asset.code.block-size:1}")
+    private long blockSize;
+
+    public AssetCodeAllocator (CategoryRepository categoryRepository, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        // the reservation commits on its own, a create that rolls back leaves a gap instead of a number
+        // another node could hand out again
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // the first of amount consecutive numbers, numbers left in a block when the node stops are skipped.
+    // callers allocate before opening their transaction: one holding a connection while it waits on the block
+    // lock would starve the reservation of the caller holding the lock once every pooled connection is taken
+    public long allocate (Long categoryId, long amount) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Asset codes must be allocated outside a transaction");
+        }
+        // a range larger than a block is reserved on its own and leaves the current block in use
+        if (amount > blockSize) {
+            return reserve(categoryId, amount) - amount + 1;
+        }
+        CodeBlock block = blocks.computeIfAbsent(categoryId, id -> new CodeBlock());
+        // a lock rather than synchronized, a virtual thread waiting on the reservation must not pin its carrier
+        block.lock.lock();
+        try {
+            if (block.next + amount > block.end) {
+                long size = blockSize;
+                long last;
+                try {
+                    last = reserve(categoryId, size);
+                }
+                catch (AppException e) {
+                    // near the last code a whole block no longer fits, the numbers still left go one create at a time
+                    if (e.getErrorCode() != ErrorCode.ASSET_CODE_EXHAUSTED || size == amount) {
+                        throw e;
+                    }
+                    size = amount;
+                    last = reserve(categoryId, size);
+                }
+                block.next = last - size + 1;
+                block.end = last + 1;
+            }
+            long first = block.next;
+            block.next += amount;
+            return first;
+        }
+        finally {
+            block.lock.unlock();
+        }
+    }
+
+    private long reserve (Long categoryId, long amount) {
+        return reserveTransaction.execute(status -> {
+            if (categoryRepository.addCountAmount(categoryId, amount) == 0) {
+                throw new AppException(ErrorCode.CATEGORY_NOT_FOUND);
+            }
+            long last = categoryRepository.findCountAmount(categoryId);
+            // thrown inside the transaction, so the count is rolled back and the numbers that fit stay free
+            if (last > AssetUtil.MAX_ASSET_NUMBER) {
+                throw new AppException(ErrorCode.ASSET_CODE_EXHAUSTED);
+            }
+            return last;
+        });
+    }
+
+    private static final class CodeBlock {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // next number to hand out and the exclusive end of the reserved range
+        private long next;
+
+        private long end;
+    }
+}
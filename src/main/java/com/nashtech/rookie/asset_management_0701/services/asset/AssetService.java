@@ -1,10 +1,13 @@
 package com.nashtech.rookie.asset_management_0701.services.asset;
 
+import java.io.OutputStream;
+
 import com.nashtech.rookie.asset_management_0701.dtos.filters.AssetFilter;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetCreateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetUpdateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
 
 public interface AssetService {
     AssetResponseDto createAsset (AssetCreateDto assetCreateDto);
@@ -18,4 +21,6 @@ public interface AssetService {
     boolean existAssignments (Long assetId);
 
     AssetResponseDto updateAsset (Long id, AssetUpdateDto assetUpdateDto);
+
+    void exportAssets (EExportFormat format, OutputStream outputStream);
 }
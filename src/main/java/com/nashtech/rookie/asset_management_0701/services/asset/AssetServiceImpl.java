@@ -1,74 +1,98 @@
 package com.nashtech.rookie.asset_management_0701.services.asset;
 
-import java.time.LocalDate;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nashtech.rookie.asset_management_0701.dtos.filters.AssetFilter;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetCreateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetUpdateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetExportRow;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
 import com.nashtech.rookie.asset_management_0701.entities.Asset;
 import com.nashtech.rookie.asset_management_0701.entities.Category;
 import com.nashtech.rookie.asset_management_0701.entities.Location;
-import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.enums.ECountMode;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.mappers.AssetMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.AssignmentRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.services.count.CountKey;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
+import com.nashtech.rookie.asset_management_0701.utils.KeysetPageUtil;
 import com.nashtech.rookie.asset_management_0701.utils.PageSortUtil;
 import com.nashtech.rookie.asset_management_0701.utils.asset_utils.AssetUtil;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportColumn;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportWriter;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportWriterResolver;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AssetServiceImpl implements AssetService {
+    private static final List<ReportColumn<AssetExportRow>> EXPORT_COLUMNS = List.of(
+        new ReportColumn<>("id", AssetExportRow::id),
+        new ReportColumn<>("assetCode", AssetExportRow::assetCode),
+        new ReportColumn<>("name", AssetExportRow::name),
+        new ReportColumn<>("category", AssetExportRow::category),
+        new ReportColumn<>("state", AssetExportRow::state),
+        new ReportColumn<>("installDate", AssetExportRow::installDate),
+        new ReportColumn<>("location", AssetExportRow::location),
+        new ReportColumn<>("specification", AssetExportRow::specification)
+    );
 
     private final AssetRepository assetRepository;
     private final AssetMapper assetMapper;
     private final CategoryRepository categoryRepository;
     private final AssignmentRepository assignmentRepository;
     private final AuthUtil authUtil;
-
+    private final ReportCounterService reportCounterService;
+    private final ReportWriterResolver reportWriterResolver;
+    private final PageCountService pageCountService;
+    private final AssetCodeAllocator assetCodeAllocator;
+    private final TransactionTemplate transactionTemplate;
+
+    // the number is reserved between transactions, a create holding a pooled connection while it waits on
+    // another create's reservation could leave no connection for that reservation to run on. the lookup gets
+    // a transaction of its own too, outside one the entity manager would keep its connection until the end
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AssetResponseDto createAsset (AssetCreateDto assetCreateDto) {
-        var category = categoryRepository
-                .findByName(assetCreateDto.getCategory())
+        var category = transactionTemplate
+                .execute(status -> categoryRepository.findByName(assetCreateDto.getCategory()))
                 .orElseThrow(() -> new AppException(ErrorCode.CATEGORY_NOT_FOUND));
 
-        validateInstallDate(assetCreateDto.getInstallDate());
-        Asset asset = assetMapper.toAsset(assetCreateDto);
-        asset.setCategory(category);
-        asset.setLocation(authUtil.getCurrentUser().getLocation());
+        AssetUtil.validateInstallDate(assetCreateDto.getInstallDate());
+        long number = assetCodeAllocator.allocate(category.getId(), 1);
 
-        asset.setAssetCode(AssetUtil.generateAssetCode(category.getCountAmount() + 1, category.getCode()));
-        category.setCountAmount(category.getCountAmount() + 1);
-        categoryRepository.save(category);
+        return transactionTemplate.execute(status -> {
+            Asset asset = assetMapper.toAsset(assetCreateDto);
+            asset.setCategory(category);
+            asset.setLocation(authUtil.getCurrentLocation());
+            asset.setAssetCode(AssetUtil.generateAssetCode(number, category.getCode()));
 
-        asset = assetRepository.save(asset);
-        return assetMapper.toAssetResponseDto(asset);
-    }
-
-    private void validateInstallDate (LocalDate installDate) {
-        LocalDate toThreeMonthsAgo = LocalDate.now().minusMonths(3);
-
-        if (installDate.isBefore(toThreeMonthsAgo)) {
-            throw new AppException(ErrorCode.ASSET_INSTALLED_DATE_TOO_OLD);
-        }
+            Asset saved = assetRepository.save(asset);
+            reportCounterService.applyTransition(saved, null, saved.getState());
+            return assetMapper.toAssetResponseDto(saved);
+        });
     }
 
     @Override
@@ -77,7 +101,7 @@ public class AssetServiceImpl implements AssetService {
         Sort sort = Sort.by(PageSortUtil.parseSortDirection(assetFilter.getSortDir()), assetFilter.getOrderBy());
         Pageable pageable = PageSortUtil.createPageRequest(assetFilter.getPageNumber()
                 , assetFilter.getPageSize(), sort);
-        Location currentLocation = authUtil.getCurrentUser().getLocation();
+        Location currentLocation = authUtil.getCurrentLocation();
 
 
         // check if the categoryIds are valid
@@ -86,17 +110,26 @@ public class AssetServiceImpl implements AssetService {
             throw new AppException(ErrorCode.CATEGORY_NOT_FOUND);
         }
 
-        Page<Asset> assets = assetRepository.findAll(
-                Specification.where(AssetSpecification.hasAssetName(assetFilter.getSearchString()))
-                        .or(AssetSpecification.hasAssetCode(assetFilter.getSearchString()))
-                        .and(AssetSpecification.hasStates(assetFilter.getStates()))
-                        .and(AssetSpecification.hasLocation(currentLocation))
-                        .and(AssetSpecification.hasCategories(categories)),
-                pageable);
+        Specification<Asset> specification = Specification
+                .where(AssetSpecification.hasAssetName(assetFilter.getSearchString()))
+                .or(AssetSpecification.hasAssetCode(assetFilter.getSearchString()))
+                .and(AssetSpecification.hasStates(assetFilter.getStates()))
+                .and(AssetSpecification.hasLocation(currentLocation))
+                .and(AssetSpecification.hasCategories(categories));
+
+        if (assetFilter.getCursor() != null) {
+            return KeysetPageUtil.findPage(assetRepository, specification, sort, assetFilter.getCursor(),
+                    assetFilter.getPageSize(), assetMapper::toAssetResponseDto);
+        }
+
+        Slice<Asset> assets = pageCountService.findPage(assetRepository, specification, pageable,
+                ECountMode.fromValue(assetFilter.getCountMode()),
+                CountKey.of(Asset.class, currentLocation.getId(), assetFilter.getSearchString(),
+                        assetFilter.getStates(), assetFilter.getCategoryIds()));
 
         return PaginationResponse.<AssetResponseDto>builder()
                 .page(pageable.getPageNumber() + 1)
-                .total(assets.getTotalElements())
+                .total(PageSortUtil.getTotal(assets))
                 .itemsPerPage(pageable.getPageSize())
                 .data(assets.map(assetMapper::toAssetResponseDto).toList())
                 .build();
@@ -123,6 +156,7 @@ public class AssetServiceImpl implements AssetService {
             throw new AppException(ErrorCode.ASSET_IS_ASSIGNED);
         }
         assetRepository.delete(asset);
+        reportCounterService.applyTransition(asset, asset.getState(), null);
     }
 
 
@@ -143,16 +177,15 @@ public class AssetServiceImpl implements AssetService {
         }
 
 
-        validateUpdateDate(asset.getInstallDate(), assetUpdateDto.getInstallDate());
-        User user = authUtil.getCurrentUser();
-
-        if (!asset.getLocation().equals(user.getLocation())) {
+        AssetUtil.validateUpdateDate(asset.getInstallDate(), assetUpdateDto.getInstallDate());
+        if (!asset.getLocation().getId().equals(authUtil.getCurrentLocationId())) {
             throw new AppException(ErrorCode.ASSET_NOT_FOUND);
         }
         if (asset.getState().equals(EAssetState.ASSIGNED)) {
             throw new AppException(ErrorCode.ASSET_IS_ASSIGNED);
         }
 
+        EAssetState oldState = asset.getState();
         assetMapper.updateAsset(asset, assetUpdateDto);
         try {
             assetRepository.save(asset);
@@ -160,15 +193,17 @@ public class AssetServiceImpl implements AssetService {
         catch (OptimisticLockingFailureException e) {
             throw new AppException(ErrorCode.DATA_IS_OLD);
         }
+        reportCounterService.applyTransition(asset, oldState, asset.getState());
 
         return assetMapper.toAssetResponseDto(asset);
     }
 
-    private void validateUpdateDate (LocalDate currInstalledDate, LocalDate installDate) {
-        LocalDate toThreeMonthsAgo = LocalDate.now().minusMonths(3);
-
-        if (installDate.isBefore(toThreeMonthsAgo) && installDate.isBefore(currInstalledDate)) {
-            throw new AppException(ErrorCode.ASSET_INSTALLED_DATE_TOO_OLD);
+    @Override
+    public void exportAssets (EExportFormat format, OutputStream outputStream) {
+        ReportWriter writer = reportWriterResolver.getWriter(format);
+        Long locationId = authUtil.getCurrentLocationId();
+        try (Stream<AssetExportRow> assets = assetRepository.streamInventory(locationId)) {
+            writer.write(EXPORT_COLUMNS, assets, outputStream);
         }
     }
 }
@@ -8,6 +8,7 @@ import com.nashtech.rookie.asset_management_0701.entities.Asset;
 import com.nashtech.rookie.asset_management_0701.entities.Category;
 import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.utils.SearchPatternUtil;
 
 
 public final class AssetSpecification {
@@ -15,20 +16,20 @@ public final class AssetSpecification {
     private AssetSpecification () {
     }
     public static Specification<Asset> hasAssetName (String assetName) {
-        if (assetName == null || assetName.trim().isEmpty()) {
+        if (SearchPatternUtil.isBlank(assetName)) {
             return null;
         }
-        String lowerCaseName = assetName.trim().toLowerCase();
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.like(criteriaBuilder.lower(root.get("name")), "%" + lowerCaseName + "%");
+        String pattern = SearchPatternUtil.toContainsPattern(assetName);
+        return (root, query, criteriaBuilder) -> criteriaBuilder.like(
+                criteriaBuilder.lower(root.get("name")), pattern, SearchPatternUtil.ESCAPE_CHAR);
     }
     public static Specification<Asset> hasAssetCode (String assetCode) {
-        if (assetCode == null || assetCode.trim().isEmpty()) {
+        if (SearchPatternUtil.isBlank(assetCode)) {
             return null;
         }
-        String lowerCaseName = assetCode.trim().toLowerCase();
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.like(criteriaBuilder.lower(root.get("assetCode")), "%" + lowerCaseName + "%");
+        String pattern = SearchPatternUtil.toContainsPattern(assetCode);
+        return (root, query, criteriaBuilder) -> criteriaBuilder.like(
+                criteriaBuilder.lower(root.get("assetCode")), pattern, SearchPatternUtil.ESCAPE_CHAR);
     }
     public static Specification<Asset> hasStates (Set<EAssetState> states) {
         return (root, query, criteriaBuilder) -> {
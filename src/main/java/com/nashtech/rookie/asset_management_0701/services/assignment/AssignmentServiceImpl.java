@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,7 @@ import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentState;
+import com.nashtech.rookie.asset_management_0701.enums.ECountMode;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
@@ -30,6 +32,10 @@ import com.nashtech.rookie.asset_management_0701.mappers.AssignmentMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.AssignmentRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.services.count.CountKey;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
+import com.nashtech.rookie.asset_management_0701.utils.KeysetPageUtil;
 import com.nashtech.rookie.asset_management_0701.utils.PageSortUtil;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 import lombok.RequiredArgsConstructor;
@@ -44,6 +50,8 @@ public class AssignmentServiceImpl implements AssignmentService {
     private final AssignmentMapper assignmentMapper;
     private final UserRepository userRepository;
     private final AuthUtil authUtil;
+    private final ReportCounterService reportCounterService;
+    private final PageCountService pageCountService;
     private final Map<String, String> sortBy = Map.ofEntries(
         Map.entry("assetName", "asset_name"),
         Map.entry("assetCode", "asset_assetCode"),
@@ -83,7 +91,7 @@ public class AssignmentServiceImpl implements AssignmentService {
             throw new AppException(ErrorCode.ASSIGNMENT_CANNOT_DELETE);
         }
         Asset asset = assignment.getAsset();
-        asset.setState(EAssetState.AVAILABLE);
+        changeAssetState(asset, EAssetState.AVAILABLE);
         assetRepository.save(asset);
         assignmentRepository.delete(assignment);
     }
@@ -99,7 +107,7 @@ public class AssignmentServiceImpl implements AssignmentService {
             case EAssignmentState.ACCEPTED -> assignment.setState(EAssignmentState.ACCEPTED);
             case EAssignmentState.DECLINED -> {
                 assignment.setState(EAssignmentState.DECLINED);
-                assignment.getAsset().setState(EAssetState.AVAILABLE);
+                changeAssetState(assignment.getAsset(), EAssetState.AVAILABLE);
             }
             default -> assignment.setState(EAssignmentState.WAITING);
         }
@@ -128,7 +136,7 @@ public class AssignmentServiceImpl implements AssignmentService {
         assignment.setState(EAssignmentState.WAITING);
         assignment.setAssignBy(currentUser);
         assignment.setAssignTo(user);
-        asset.setState(EAssetState.ASSIGNED);
+        changeAssetState(asset, EAssetState.ASSIGNED);
         assignment.setAsset(asset);
 
         Assignment savedAssignment = assignmentRepository.save(assignment);
@@ -153,7 +161,7 @@ public class AssignmentServiceImpl implements AssignmentService {
         }
 
         Asset oldAsset = updateAssignment.getAsset();
-        oldAsset.setState(EAssetState.AVAILABLE);
+        changeAssetState(oldAsset, EAssetState.AVAILABLE);
         assetRepository.save(oldAsset);
 
         User user = getUserById(assignmentUpdateDto.getUserId());
@@ -163,7 +171,7 @@ public class AssignmentServiceImpl implements AssignmentService {
         validateLocationUser(user, currentUser);
 
         updateAssignment = assignmentMapper.updateEntity(updateAssignment, assignmentUpdateDto);
-        asset.setState(EAssetState.ASSIGNED);
+        changeAssetState(asset, EAssetState.ASSIGNED);
         updateAssignment.setAssignTo(user);
         updateAssignment.setAsset(asset);
         assetRepository.save(asset);
@@ -187,6 +195,12 @@ public class AssignmentServiceImpl implements AssignmentService {
                 .orElseThrow(() -> new AppException(ErrorCode.ASSET_NOT_FOUND));
     }
 
+    private void changeAssetState (Asset asset, EAssetState state) {
+        EAssetState oldState = asset.getState();
+        asset.setState(state);
+        reportCounterService.applyTransition(asset, oldState, state);
+    }
+
     private void validateAssetState (Asset asset) {
         if (!EAssetState.AVAILABLE.equals(asset.getState())) {
             throw new AppException(ErrorCode.ASSET_STATE_NOT_AVAILABLE);
@@ -212,7 +226,7 @@ public class AssignmentServiceImpl implements AssignmentService {
         LocalDate currentDate = LocalDate.now();
 
         Page<Assignment> assignments = assignmentRepository.findAll(
-                Specification.where(AssignmentSpecification.assignToIdEquals(authUtil.getCurrentUser().getId())
+                Specification.where(AssignmentSpecification.assignToIdEquals(authUtil.getCurrentUserId())
                                 .and(AssignmentSpecification.assignedDateLessThanEqual(currentDate)))
                                 .and(AssignmentSpecification.notStateReturned())
                                 .and(AssignmentSpecification.notStateDeclined())
@@ -231,25 +245,34 @@ public class AssignmentServiceImpl implements AssignmentService {
         Sort sort = Sort.by(PageSortUtil.parseSortDirection(filter.getSortDir()), sortBy.get(filter.getOrderBy()));
         Pageable pageable = PageSortUtil.createPageRequest(filter.getPageNumber()
                 , filter.getPageSize(), sort);
-        Location currentLocation = authUtil.getCurrentUser().getLocation();
+        Location currentLocation = authUtil.getCurrentLocation();
 
-        Page<Assignment> assignments = assignmentRepository.findAll(
-                Specification.where(AssignmentSpecification.hasAssetName(filter.getSearchString())
+        Specification<Assignment> specification = Specification
+                .where(AssignmentSpecification.hasAssetName(filter.getSearchString())
                         .or(AssignmentSpecification.hasAssetCode(filter.getSearchString()))
                         .or(AssignmentSpecification.hasAssigneeUsername(filter.getSearchString()))
                         .and(AssignmentSpecification.hasStates(filter.getStates()))
                         .and(AssignmentSpecification.assignOnDate(filter.getAssignDate()))
                         .and(AssignmentSpecification.hasLocation(currentLocation))
                         .and(AssignmentSpecification.notStateReturned()))
-                        .and(AssignmentSpecification.joinFetch("returningRequest"))
-                        .and(AssignmentSpecification.joinFetch("asset"))
-                        .and(AssignmentSpecification.joinFetch("assignBy"))
-                        .and(AssignmentSpecification.joinFetch("assignTo"))
-                , pageable);
+                .and(AssignmentSpecification.joinFetch("returningRequest"))
+                .and(AssignmentSpecification.joinFetch("asset"))
+                .and(AssignmentSpecification.joinFetch("assignBy"))
+                .and(AssignmentSpecification.joinFetch("assignTo"));
+
+        if (filter.getCursor() != null) {
+            return KeysetPageUtil.findPage(assignmentRepository, specification, sort, filter.getCursor(),
+                    filter.getPageSize(), assignmentMapper::toAssignmentResponseDto);
+        }
+
+        Slice<Assignment> assignments = pageCountService.findPage(assignmentRepository, specification, pageable,
+                ECountMode.fromValue(filter.getCountMode()),
+                CountKey.of(Assignment.class, currentLocation.getId(), filter.getSearchString(), filter.getStates(),
+                        filter.getAssignDate()));
 
         return PaginationResponse.<AssignmentResponseDto>builder()
                 .page(pageable.getPageNumber() + 1)
-                .total(assignments.getTotalElements())
+                .total(PageSortUtil.getTotal(assignments))
                 .itemsPerPage(pageable.getPageSize())
                 .data(assignments.map(assignmentMapper::toAssignmentResponseDto).toList())
                 .build();
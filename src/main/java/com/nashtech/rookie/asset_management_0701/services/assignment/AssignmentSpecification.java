@@ -10,6 +10,7 @@ import com.nashtech.rookie.asset_management_0701.entities.Assignment;
 import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentState;
+import com.nashtech.rookie.asset_management_0701.utils.SearchPatternUtil;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 public final class AssignmentSpecification {
@@ -35,27 +36,37 @@ public final class AssignmentSpecification {
         };
     }
 
+    // a blank search adds no predicate, so an empty LIKE '%%' does not keep the planner off the indexes
     public static Specification<Assignment> hasAssetName (String assetName){
-        String lowerCaseName = assetName == null? "":assetName.trim().toLowerCase();
         return (root, query, criteriaBuilder) -> {
+            if (SearchPatternUtil.isBlank(assetName)) {
+                return null;
+            }
             Join<Assignment, Asset> assignmentAsset = root.join("asset");
-            return criteriaBuilder.like(criteriaBuilder.lower(assignmentAsset.get("name")), "%"+lowerCaseName+"%");
+            return criteriaBuilder.like(criteriaBuilder.lower(assignmentAsset.get("name")),
+                    SearchPatternUtil.toContainsPattern(assetName), SearchPatternUtil.ESCAPE_CHAR);
         };
     }
 
     public static Specification<Assignment> hasAssetCode (String assetCode){
-        String lowerCaseName = assetCode == null? "": assetCode.trim().toLowerCase();
         return (root, query, criteriaBuilder) -> {
+            if (SearchPatternUtil.isBlank(assetCode)) {
+                return null;
+            }
             Join<Assignment, Asset> assignmentAsset = root.join("asset");
-            return criteriaBuilder.like(criteriaBuilder.lower(assignmentAsset.get("assetCode")), "%"+lowerCaseName+"%");
+            return criteriaBuilder.like(criteriaBuilder.lower(assignmentAsset.get("assetCode")),
+                    SearchPatternUtil.toContainsPattern(assetCode), SearchPatternUtil.ESCAPE_CHAR);
         };
     }
 
     public static Specification<Assignment> hasAssigneeUsername (String username){
-        String lowerCaseName = username == null? "":username.trim().toLowerCase();
         return (root, query, criteriaBuilder) -> {
+            if (SearchPatternUtil.isBlank(username)) {
+                return null;
+            }
             Join<Assignment, User> assignmentAsset = root.join("assignTo");
-            return criteriaBuilder.like(criteriaBuilder.lower(assignmentAsset.get("username")), "%"+lowerCaseName+"%");
+            return criteriaBuilder.like(criteriaBuilder.lower(assignmentAsset.get("username")),
+                    SearchPatternUtil.toContainsPattern(username), SearchPatternUtil.ESCAPE_CHAR);
         };
     }
 
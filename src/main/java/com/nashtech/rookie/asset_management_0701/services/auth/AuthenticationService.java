@@ -1,11 +1,16 @@
 package com.nashtech.rookie.asset_management_0701.services.auth;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.nashtech.rookie.asset_management_0701.dtos.requests.auth.AuthenticationRequest;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.AuthenticationResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.TokenSweepResponse;
 
 public interface AuthenticationService {
 
-    AuthenticationResponse login (AuthenticationRequest request);
+    CompletableFuture<AuthenticationResponse> login (AuthenticationRequest request);
 
     void logout (String token);
+
+    TokenSweepResponse getTokenSweepStats ();
 }
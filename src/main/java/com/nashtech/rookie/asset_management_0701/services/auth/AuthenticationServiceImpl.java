@@ -2,17 +2,24 @@ package com.nashtech.rookie.asset_management_0701.services.auth;
 
 
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nashtech.rookie.asset_management_0701.configs.security.JwtService;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.auth.AuthenticationRequest;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.AuthenticationResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.TokenSweepResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.security.TokenClaims;
 import com.nashtech.rookie.asset_management_0701.entities.InvalidToken;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
@@ -20,19 +27,24 @@ import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.mappers.UserMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.InvalidTokenRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.services.cache.CacheInvalidationService;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthenticationServiceImpl implements AuthenticationService {
+    @Value("${application.jwt.sweep.batch-size:500}")
+    private int sweepBatchSize;
 
     private final UserRepository userRepository;
 
     private final JwtService jwtService;
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     private final UserMapper userMapper;
 
@@ -40,46 +52,99 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     private final InvalidTokenRepository invalidTokenRepository;
 
-    private final CacheManager cacheManager;
+    private final CacheInvalidationService cacheInvalidationService;
 
-    @Override
-    public AuthenticationResponse login (AuthenticationRequest request) {
+    private final TransactionTemplate transactionTemplate;
 
-        var user = userRepository
-                .findByUsername(request.getUsername())
-                .orElseThrow(() -> new AppException(ErrorCode.EMAIL_OR_PASSWORD_INCORRECT));
+    private final AtomicLong sweepRuns = new AtomicLong();
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getHashPassword())) {
-            throw new AppException(ErrorCode.EMAIL_OR_PASSWORD_INCORRECT);
-        }
+    private final AtomicLong sweptTokens = new AtomicLong();
 
-        // check if user is active
-        if (user.getStatus() == EUserStatus.DISABLED) {
-            throw new AppException(ErrorCode.USER_NOT_ACTIVE);
-        }
+    private volatile TokenSweepResponse lastSweep;
 
-        var token = jwtService.generateToken(user);
+    @Override
+    public CompletableFuture<AuthenticationResponse> login (AuthenticationRequest request) {
 
-        return AuthenticationResponse.builder()
-                .user(userMapper.toUserResponse(user))
-                .token(token)
-                .build();
+        var user = userRepository
+                .findByUsername(request.getUsername())
+                .orElseThrow(() -> new AppException(ErrorCode.EMAIL_OR_PASSWORD_INCORRECT));
+        // mapped while the transaction is open, the rest runs on the hashing pool
+        var userResponse = userMapper.toUserResponse(user);
+
+        return passwordHashingService.matches(request.getPassword(), user.getHashPassword())
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new AppException(ErrorCode.EMAIL_OR_PASSWORD_INCORRECT);
+                    }
+
+                    // check if user is active
+                    if (user.getStatus() == EUserStatus.DISABLED) {
+                        throw new AppException(ErrorCode.USER_NOT_ACTIVE);
+                    }
+
+                    String upgradedHash = passwordHashingService.rehashIfOutdated(
+                            request.getPassword(), user.getHashPassword());
+                    if (upgradedHash != null) {
+                        userRepository.updateHashPassword(user.getId(), upgradedHash);
+                    }
+
+                    return AuthenticationResponse.builder()
+                            .user(userResponse)
+                            .token(jwtService.generateToken(user))
+                            .build();
+                });
     }
 
     @Transactional
     public void logout (String token) {
-        InvalidToken invalidToken =
-            new InvalidToken(token, jwtService.extractExpiration(token).toInstant(), authUtil.getCurrentUser());
+        TokenClaims claims = jwtService.parseToken(token);
+        Instant expiry = claims.expiration().toInstant();
+        InvalidToken invalidToken = new InvalidToken(claims.idToken(), expiry, authUtil.getCurrentUser());
 
         invalidTokenRepository.save(invalidToken);
 
-        cacheManager.getCache("userDisable").evictIfPresent(authUtil.getCurrentUserName());
+        cacheInvalidationService.revokeToken(claims.idToken(), expiry);
     }
 
-    @CacheEvict(value = "userDisable", allEntries = true)
+    // each batch commits on its own, so the sweep never holds locks on more than one batch of rows,
+    // nothing caches revoked tokens per user, so deleting the rows is all there is to it
     @Scheduled(fixedDelayString = "${application.jwt.expiration}")
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanInvalidToken () {
-        invalidTokenRepository.deleteExpiredTokens(Instant.now());
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        long deleted = 0;
+        // a short batch means nothing expired is left
+        int batchSize = sweepBatchSize;
+        while (batchSize == sweepBatchSize) {
+            Integer batch = transactionTemplate.execute(status -> deleteExpiredBatch(now));
+            batchSize = batch == null ? 0 : batch;
+            deleted += batchSize;
+        }
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastSweep = TokenSweepResponse.builder()
+                .lastRunAt(now)
+                .lastDurationMillis(durationMillis)
+                .lastDeletedCount(deleted)
+                .runCount(sweepRuns.incrementAndGet())
+                .totalDeletedCount(sweptTokens.addAndGet(deleted))
+                .build();
+        log.debug("Swept {} expired tokens in {} ms", deleted, durationMillis);
+    }
+
+    // reads only the ids of the batch, then deletes the expired rows up to the last of them
+    private int deleteExpiredBatch (Instant now) {
+        List<String> ids = invalidTokenRepository.findExpiredIds(now, Limit.of(sweepBatchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return invalidTokenRepository.deleteExpiredUpTo(now, ids.get(ids.size() - 1));
+    }
+
+    @Override
+    public TokenSweepResponse getTokenSweepStats () {
+        TokenSweepResponse last = lastSweep;
+        return last != null ? last : TokenSweepResponse.builder().runCount(0L).totalDeletedCount(0L).build();
     }
 }
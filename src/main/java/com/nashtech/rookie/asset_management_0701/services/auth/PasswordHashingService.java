@@ -0,0 +1,10 @@
+package com.nashtech.rookie.asset_management_0701.services.auth;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PasswordHashingService {
+    CompletableFuture<Boolean> matches (String rawPassword, String encodedPassword);
+
+    // the new hash when the stored one was made by an outdated encoder or strength, otherwise null
+    String rehashIfOutdated (String rawPassword, String encodedPassword);
+}
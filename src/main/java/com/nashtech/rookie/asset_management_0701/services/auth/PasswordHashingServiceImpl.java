@@ -0,0 +1,36 @@
+package com.nashtech.rookie.asset_management_0701.services.auth;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Override
+    public CompletableFuture<Boolean> matches (String rawPassword, String encodedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.matches(rawPassword, encodedPassword),
+                    passwordHashExecutor);
+        }
+        catch (TaskRejectedException e) {
+            throw new AppException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
+    @Override
+    public String rehashIfOutdated (String rawPassword, String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword) ? passwordEncoder.encode(rawPassword) : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.nashtech.rookie.asset_management_0701.services.cache;
+
+import java.time.Instant;
+
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+
+public interface CacheInvalidationService {
+    void evict (String cacheName, String key);
+
+    void clear (String cacheName);
+
+    void revokeToken (String idToken, Instant expiry);
+
+    void reindex (ESuggestType type, Long id);
+}
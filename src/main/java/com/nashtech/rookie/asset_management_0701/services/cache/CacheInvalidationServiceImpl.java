@@ -0,0 +1,161 @@
+package com.nashtech.rookie.asset_management_0701.services.cache;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nashtech.rookie.asset_management_0701.configs.cache.bus.InvalidationBus;
+import com.nashtech.rookie.asset_management_0701.configs.cache.bus.InvalidationEvent;
+import com.nashtech.rookie.asset_management_0701.configs.security.TokenRevocationIndex;
+import com.nashtech.rookie.asset_management_0701.enums.EInvalidationType;
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+import com.nashtech.rookie.asset_management_0701.services.search.SuggestService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// applies an invalidation on this node and publishes it so every other node drops the same entries
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheInvalidationServiceImpl implements CacheInvalidationService {
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final CacheManager cacheManager;
+
+    private final TokenRevocationIndex revocationIndex;
+
+    private final InvalidationBus invalidationBus;
+
+    private final SuggestService suggestService;
+
+    @PostConstruct
+    public void subscribe () {
+        invalidationBus.subscribe(this::onEvent);
+    }
+
+    @Override
+    public void evict (String cacheName, String key) {
+        evictLocally(cacheName, key);
+        // a value loaded by a concurrent reader before our commit would otherwise survive it
+        afterCommit(() -> {
+            evictLocally(cacheName, key);
+            publish(EInvalidationType.EVICT, cacheName, key, null);
+        });
+    }
+
+    @Override
+    public void clear (String cacheName) {
+        clearLocally(cacheName);
+        ClearAfterCommit clearAfterCommit = new ClearAfterCommit(cacheName);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // synchronizations are kept in a set, so a bulk write clearing the cache once per row publishes once
+            TransactionSynchronizationManager.registerSynchronization(clearAfterCommit);
+        }
+        else {
+            clearAfterCommit.afterCommit();
+        }
+    }
+
+    @Override
+    public void revokeToken (String idToken, Instant expiry) {
+        // the index only learns about the revocation once the row that backs it is committed
+        afterCommit(() -> {
+            revocationIndex.revoke(idToken, expiry);
+            publish(EInvalidationType.REVOKE_TOKEN, null, idToken, expiry);
+        });
+    }
+
+    @Override
+    public void reindex (ESuggestType type, Long id) {
+        // this node indexes the entity it wrote, the other nodes read the committed row back
+        afterCommit(() -> publish(EInvalidationType.REINDEX, type.name(), String.valueOf(id), null));
+    }
+
+    private void onEvent (InvalidationEvent event) {
+        if (nodeId.equals(event.origin())) {
+            return;
+        }
+        switch (event.type()) {
+            case EVICT -> evictLocally(event.cacheName(), event.key());
+            case CLEAR -> clearLocally(event.cacheName());
+            case REVOKE_TOKEN -> revocationIndex.revoke(event.key(), event.expiry());
+            case REINDEX -> suggestService.reindex(ESuggestType.valueOf(event.cacheName()), Long.valueOf(event.key()));
+            default -> {
+                // RESYNC, the bus may have dropped events while this node was not listening
+                log.info("Reloading local caches after missed invalidations");
+                cacheManager.getCacheNames().forEach(this::clearLocally);
+                revocationIndex.warmUp();
+                suggestService.rebuildIndexes();
+            }
+        }
+    }
+
+    // runs after the commit, where a failure can no longer roll anything back and would only turn the
+    // caller's successful write into an error, other nodes keep the stale entries until they expire
+    private void publish (EInvalidationType type, String cacheName, String key, Instant expiry) {
+        try {
+            invalidationBus.publish(new InvalidationEvent(nodeId, type, cacheName, key, expiry));
+        }
+        catch (DataAccessException | IllegalStateException e) {
+            log.error("Could not publish {} of cache {} key {}", type, cacheName, key, e);
+        }
+    }
+
+    private void evictLocally (String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clearLocally (String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static void afterCommit (Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit () {
+                action.run();
+            }
+        });
+    }
+
+    private final class ClearAfterCommit implements TransactionSynchronization {
+        private final String cacheName;
+
+        private ClearAfterCommit (String cacheName) {
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public void afterCommit () {
+            clearLocally(cacheName);
+            publish(EInvalidationType.CLEAR, cacheName, null, null);
+        }
+
+        @Override
+        public boolean equals (Object other) {
+            return other instanceof ClearAfterCommit clear && cacheName.equals(clear.cacheName);
+        }
+
+        @Override
+        public int hashCode () {
+            return cacheName.hashCode();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.nashtech.rookie.asset_management_0701.services.cache;
+
+import java.util.List;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.cache.CacheStatsResponse;
+
+public interface CacheStatsService {
+    List<CacheStatsResponse> getCacheStats ();
+}
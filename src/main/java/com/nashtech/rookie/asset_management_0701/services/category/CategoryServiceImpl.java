@@ -12,6 +12,7 @@ import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.mappers.CategoryMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -21,6 +22,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final ReportCounterService reportCounterService;
 
     @Override
     @Transactional
@@ -36,6 +38,7 @@ public class CategoryServiceImpl implements CategoryService {
         Category category = categoryMapper.toCategory(categoryCreateDto);
         category.setCountAmount(0L);
         categoryRepository.save(category);
+        reportCounterService.initCounters(category);
 
         return categoryMapper.toCategoryResponseDto(category);
     }
@@ -0,0 +1,17 @@
+package com.nashtech.rookie.asset_management_0701.services.count;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public record CountKey(Class<?> entityType, Long locationId, List<Object> filter) {
+
+    public static CountKey of (Class<?> entityType, Long locationId, Object... filter) {
+        List<Object> normalized = new ArrayList<>(filter.length);
+        for (Object value : filter) {
+            normalized.add(value instanceof String text ? text.trim().toLowerCase(Locale.ROOT) : value);
+        }
+        return new CountKey(entityType, locationId, Collections.unmodifiableList(normalized));
+    }
+}
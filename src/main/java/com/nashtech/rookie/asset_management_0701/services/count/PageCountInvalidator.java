@@ -0,0 +1,23 @@
+package com.nashtech.rookie.asset_management_0701.services.count;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class PageCountInvalidator {
+    // resolved lazily, the listener is built with the entity manager factory the service depends on
+    private final ObjectProvider<PageCountService> pageCountService;
+
+    // on persist rather than after it, sequence ids hold the insert back until the next flush,
+    // updates go through PageCountUpdateListener, which can tell which columns changed
+    @PrePersist
+    @PostRemove
+    public void onWrite (Object entity) {
+        pageCountService.getObject().invalidateCounts();
+    }
+}
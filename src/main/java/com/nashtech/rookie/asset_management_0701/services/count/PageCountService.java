@@ -0,0 +1,19 @@
+package com.nashtech.rookie.asset_management_0701.services.count;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import com.nashtech.rookie.asset_management_0701.enums.ECountMode;
+
+public interface PageCountService {
+    <T> Slice<T> findPage (JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                           Pageable pageable, ECountMode countMode, CountKey countKey);
+
+    void invalidateCounts ();
+
+    void clearExactCounts ();
+
+    void clearEstimatedCounts ();
+}
@@ -0,0 +1,101 @@
+package com.nashtech.rookie.asset_management_0701.services.count;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Service;
+
+import com.nashtech.rookie.asset_management_0701.enums.ECountMode;
+import com.nashtech.rookie.asset_management_0701.services.cache.CacheInvalidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PageCountServiceImpl implements PageCountService {
+    public static final String EXACT_COUNT_CACHE = "pageCounts";
+    public static final String ESTIMATED_COUNT_CACHE = "estimatedPageCounts";
+
+    private final CacheManager cacheManager;
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+    @Value("${application.metrics.slow-query-threshold:500}")
+    private long slowQueryThresholdMillis;
+
+    // the count key carries the filter the specification was built from, the SQL it rendered to is logged
+    // by Hibernate's own slow query log under the same threshold
+    @Override
+    public <T> Slice<T> findPage (JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                                  Pageable pageable, ECountMode countMode, CountKey countKey) {
+        long start = System.nanoTime();
+        try {
+            return doFindPage(repository, specification, pageable, countMode, countKey);
+        }
+        finally {
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (millis >= slowQueryThresholdMillis) {
+                log.warn("Slow list query on {} took {} ms: location {}, filter {}, page {}, size {}, sort {}, {}",
+                        countKey.entityType().getSimpleName(), millis, countKey.locationId(), countKey.filter(),
+                        pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), countMode);
+            }
+        }
+    }
+
+    private <T> Slice<T> doFindPage (JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                                     Pageable pageable, ECountMode countMode, CountKey countKey) {
+        if (countMode == ECountMode.NONE) {
+            Window<T> window = findWindow(repository, specification, pageable);
+            return new SliceImpl<>(window.getContent(), pageable, window.hasNext());
+        }
+
+        Cache exactCounts = cacheManager.getCache(EXACT_COUNT_CACHE);
+        Cache estimatedCounts = cacheManager.getCache(ESTIMATED_COUNT_CACHE);
+        Long total = (countMode == ECountMode.EXACT ? exactCounts : estimatedCounts).get(countKey, Long.class);
+        if (total == null) {
+            total = repository.count(specification);
+            exactCounts.put(countKey, total);
+            estimatedCounts.put(countKey, total);
+        }
+
+        // PageImpl raises a stale estimate when the page itself proves there are more rows
+        return new PageImpl<>(findWindow(repository, specification, pageable).getContent(), pageable, total);
+    }
+
+    private <T> Window<T> findWindow (JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                                      Pageable pageable) {
+        ScrollPosition position = pageable.getOffset() == 0
+                ? ScrollPosition.offset()
+                : ScrollPosition.offset(pageable.getOffset() - 1);
+        return repository.findBy(specification, query -> query
+                .sortBy(pageable.getSort())
+                .limit(pageable.getPageSize())
+                .scroll(position));
+    }
+
+    @Override
+    public void invalidateCounts () {
+        cacheInvalidationService.clear(EXACT_COUNT_CACHE);
+    }
+
+    @Override
+    public void clearExactCounts () {
+        cacheManager.getCache(EXACT_COUNT_CACHE).clear();
+    }
+
+    @Override
+    public void clearEstimatedCounts () {
+        cacheManager.getCache(ESTIMATED_COUNT_CACHE).clear();
+    }
+}
@@ -0,0 +1,81 @@
+package com.nashtech.rookie.asset_management_0701.services.count;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Assignment;
+import com.nashtech.rookie.asset_management_0701.entities.ReturningRequest;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+// updates are seen through Hibernate rather than @PostUpdate, only Hibernate knows which columns a flush changed
+@Component
+@RequiredArgsConstructor
+public class PageCountUpdateListener implements PostUpdateEventListener {
+    // a user row is also rewritten on every password change and first login, the user, assignment and
+    // returning request lists only filter on these of its columns, searchName follows the first and last name
+    private static final Set<String> USER_FILTERED_PROPERTIES =
+            Set.of("username", "staffCode", "searchName", "role", "location");
+
+    // the lists only tell disabled users apart, not a first login from an active user
+    private static final String USER_STATUS = "status";
+
+    private static final Set<Class<?>> COUNTED_TYPES =
+            Set.of(Asset.class, Assignment.class, ReturningRequest.class, User.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final PageCountService pageCountService;
+
+    @PostConstruct
+    public void register () {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    @Override
+    public void onPostUpdate (PostUpdateEvent event) {
+        if (changesCountedColumn(event)) {
+            pageCountService.invalidateCounts();
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling (EntityPersister persister) {
+        return false;
+    }
+
+    private static boolean changesCountedColumn (PostUpdateEvent event) {
+        Class<?> type = event.getEntity().getClass();
+        if (!COUNTED_TYPES.contains(type)) {
+            return false;
+        }
+        int[] dirty = event.getDirtyProperties();
+        if (type != User.class || dirty == null) {
+            return true;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        return Arrays.stream(dirty).anyMatch(index -> USER_FILTERED_PROPERTIES.contains(names[index])
+                || USER_STATUS.equals(names[index]) && disabledChanged(event, index));
+    }
+
+    private static boolean disabledChanged (PostUpdateEvent event, int index) {
+        Object[] oldState = event.getOldState();
+        return oldState == null
+                || (oldState[index] == EUserStatus.DISABLED) != (event.getState()[index] == EUserStatus.DISABLED);
+    }
+}
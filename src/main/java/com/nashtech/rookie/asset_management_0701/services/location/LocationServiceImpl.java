@@ -12,6 +12,7 @@ import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.mappers.LocationMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -20,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 public class LocationServiceImpl implements LocationService{
     private final LocationRepository locationRepository;
     private final LocationMapper locationMapper;
+    private final ReportCounterService reportCounterService;
 
     @Override
     public List<LocationResponse> getAllLocation () {
@@ -37,8 +39,9 @@ public class LocationServiceImpl implements LocationService{
             throw new AppException(ErrorCode.LOCATION_CODE_ALREADY_EXISTED);
         }
 
-        Location location = locationMapper.toLocationEntity(locationRequest);
+        Location location = locationRepository.save(locationMapper.toLocationEntity(locationRequest));
+        reportCounterService.initCounters(location);
 
-        return locationMapper.toLocationResponse(locationRepository.save(location));
+        return locationMapper.toLocationResponse(location);
     }
 }
@@ -0,0 +1,20 @@
+package com.nashtech.rookie.asset_management_0701.services.report;
+
+import java.util.List;
+
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+
+public interface ReportCounterService {
+    void initCounters (Category category);
+
+    void initCounters (Location location);
+
+    void applyTransition (Asset asset, EAssetState oldState, EAssetState newState);
+
+    void applyCreated (List<Asset> assets);
+
+    int reconcileCounters ();
+}
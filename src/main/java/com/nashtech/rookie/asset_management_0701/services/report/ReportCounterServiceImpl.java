@@ -0,0 +1,154 @@
+package com.nashtech.rookie.asset_management_0701.services.report;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.CategoryStateAmount;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.CategoryStateCounter;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryStateCounterRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportCounterServiceImpl implements ReportCounterService {
+
+    private final CategoryStateCounterRepository counterRepository;
+    private final CategoryRepository categoryRepository;
+    private final AssetRepository assetRepository;
+    private final LocationRepository locationRepository;
+
+    @Override
+    @Transactional
+    public void initCounters (Category category) {
+        for (Location location : locationRepository.findAll()) {
+            saveCounters(category, location);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void initCounters (Location location) {
+        for (Category category : categoryRepository.findAll()) {
+            saveCounters(category, location);
+        }
+    }
+
+    private void saveCounters (Category category, Location location) {
+        for (EAssetState state : EAssetState.values()) {
+            counterRepository.save(CategoryStateCounter.builder()
+                    .category(category)
+                    .location(location)
+                    .state(state)
+                    .amount(0L)
+                    .build());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void applyTransition (Asset asset, EAssetState oldState, EAssetState newState) {
+        if (oldState == newState) {
+            return;
+        }
+        if (oldState != null) {
+            addAmount(asset, oldState, -1L);
+        }
+        if (newState != null) {
+            addAmount(asset, newState, 1L);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void applyCreated (List<Asset> assets) {
+        // one counter update per category and state rather than one per asset
+        assets.stream()
+                .collect(Collectors.groupingBy(asset ->
+                        List.of(asset.getCategory().getId(), asset.getLocation().getId(), asset.getState())))
+                .values()
+                .forEach(group -> addAmount(group.getFirst(), group.getFirst().getState(), (long) group.size()));
+    }
+
+    // every category and location pair is seeded when either side is created, and the reconcile on startup
+    // fills in databases from before that, so a missing counter means the report would silently go wrong
+    private void addAmount (Asset asset, EAssetState state, Long delta) {
+        Long categoryId = asset.getCategory().getId();
+        Long locationId = asset.getLocation().getId();
+        if (counterRepository.addAmount(categoryId, locationId, state, delta) == 0) {
+            throw new IllegalStateException("No report counter for category " + categoryId + ", location " +
+                    locationId + ", state " + state);
+        }
+    }
+
+    @Override
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${application.report.reconcile-cron:0 0 3 * * *}")
+    public int reconcileCounters () {
+        // lock the counters first so writers block until the rebuilt values are committed
+        Map<CounterKey, CategoryStateCounter> counters = new HashMap<>();
+        for (CategoryStateCounter counter : counterRepository.findAllForUpdate()) {
+            counters.put(new CounterKey(counter.getCategory().getId(), counter.getLocation().getId(),
+                    counter.getState()), counter);
+        }
+
+        Map<CounterKey, Long> actualAmounts = new HashMap<>();
+        for (CategoryStateAmount amount : assetRepository.getCategoryStateAmounts()) {
+            actualAmounts.put(new CounterKey(amount.categoryId(), amount.locationId(), amount.state()),
+                    amount.amount());
+        }
+
+        int drift = 0;
+        List<Location> locations = locationRepository.findAll();
+        for (Category category : categoryRepository.findAll()) {
+            for (Location location : locations) {
+                for (EAssetState state : EAssetState.values()) {
+                    CounterKey key = new CounterKey(category.getId(), location.getId(), state);
+                    Long actual = actualAmounts.getOrDefault(key, 0L);
+                    CategoryStateCounter counter = counters.get(key);
+
+                    if (counter == null) {
+                        counter = CategoryStateCounter.builder()
+                                .category(category)
+                                .location(location)
+                                .state(state)
+                                .amount(0L)
+                                .build();
+                    }
+                    if (!actual.equals(counter.getAmount())) {
+                        log.warn("Report counter drift for category {} location {} state {}: counted {}, actual {}",
+                                category.getId(), location.getId(), state, counter.getAmount(), actual);
+                        drift++;
+                    }
+                    counter.setAmount(actual);
+                    counterRepository.save(counter);
+                }
+            }
+        }
+
+        if (drift > 0) {
+            log.warn("Report counters reconciled, {} counter(s) drifted", drift);
+        }
+        return drift;
+    }
+
+    private record CounterKey(Long categoryId, Long locationId, EAssetState state) {
+    }
+}
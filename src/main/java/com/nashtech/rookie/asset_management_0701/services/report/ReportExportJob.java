@@ -0,0 +1,36 @@
+package com.nashtech.rookie.asset_management_0701.services.report;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.enums.EExportJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class ReportExportJob {
+    private final String id;
+
+    private final String key;
+
+    private final String sortBy;
+
+    private final String sortDirection;
+
+    private final EExportFormat format;
+
+    // null for an all-locations export
+    private final Long locationId;
+
+    private final Instant createdAt;
+
+    private volatile EExportJobStatus status;
+
+    private volatile Path file;
+
+    private volatile Instant finishedAt;
+}
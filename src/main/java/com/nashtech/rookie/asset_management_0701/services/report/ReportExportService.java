@@ -0,0 +1,15 @@
+package com.nashtech.rookie.asset_management_0701.services.report;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.report.ReportExportJobResponse;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+
+public interface ReportExportService {
+    ReportExportJobResponse submitExport (String sortBy, String sortDirection, Boolean allLocations,
+                                          EExportFormat format);
+
+    ReportExportJobResponse getExport (String jobId);
+
+    ReportExportJob getCompletedExport (String jobId);
+
+    void cleanExpiredExports ();
+}
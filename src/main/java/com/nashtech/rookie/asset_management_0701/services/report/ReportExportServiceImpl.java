@@ -0,0 +1,194 @@
+package com.nashtech.rookie.asset_management_0701.services.report;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.report.ReportExportJobResponse;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.enums.EExportJobStatus;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.utils.PageSortUtil;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportServiceImpl implements ReportExportService {
+    private final ReportService reportService;
+    private final AuthUtil authUtil;
+    private final ReportScope reportScope;
+    private final ThreadPoolTaskExecutor reportExportExecutor;
+    private final Map<String, ReportExportJob> jobs = new ConcurrentHashMap<>();
+    // queued or running jobs by request key, so identical requests share one build
+    private final Map<String, ReportExportJob> activeJobs = new ConcurrentHashMap<>();
+
+    @Value("${application.report.export.spool-dir}")
+    private Path spoolDir;
+
+    @Value("${application.report.export.ttl}")
+    private Duration ttl;
+
+    @PostConstruct
+    public void initSpoolDir () throws IOException {
+        Files.createDirectories(spoolDir);
+        // files left by a previous run can no longer be downloaded
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            files.filter(Files::isRegularFile).forEach(this::deleteFile);
+        }
+    }
+
+    @Override
+    public ReportExportJobResponse submitExport (String sortBy, String sortDirection, Boolean allLocations,
+                                                 EExportFormat format) {
+        Sort.Direction direction = PageSortUtil.parseSortDirection(sortDirection);
+        Long locationId = reportScope.resolveLocationId(allLocations);
+        String key = String.join(":", sortBy, direction.name(), String.valueOf(locationId), format.name());
+
+        ReportExportJob job = ReportExportJob.builder()
+                .id(UUID.randomUUID().toString())
+                .key(key)
+                .sortBy(sortBy)
+                .sortDirection(direction.name())
+                .format(format)
+                .locationId(locationId)
+                .createdAt(Instant.now())
+                .status(EExportJobStatus.PENDING)
+                .build();
+
+        // found by id before it can be found by key, a duplicate request may poll the job id at once
+        jobs.put(job.getId(), job);
+        ReportExportJob activeJob = activeJobs.putIfAbsent(key, job);
+        if (activeJob != null) {
+            jobs.remove(job.getId());
+            return toResponse(activeJob);
+        }
+
+        try {
+            // the build marks the job failed itself, the future only logs why along with the job id
+            CompletableFuture.runAsync(() -> buildExport(job), reportExportExecutor)
+                    .whenComplete((result, failure) -> {
+                        if (failure != null) {
+                            log.error("Report export {} failed", job.getId(), failure.getCause());
+                        }
+                    });
+        }
+        catch (TaskRejectedException e) {
+            activeJobs.remove(key, job);
+            jobs.remove(job.getId());
+            throw new AppException(ErrorCode.REPORT_EXPORT_QUEUE_FULL);
+        }
+        return toResponse(job);
+    }
+
+    @Override
+    public ReportExportJobResponse getExport (String jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    @Override
+    public ReportExportJob getCompletedExport (String jobId) {
+        ReportExportJob job = findJob(jobId);
+        if (job.getStatus() != EExportJobStatus.COMPLETED) {
+            throw new AppException(ErrorCode.REPORT_EXPORT_NOT_READY);
+        }
+        if (!Files.exists(job.getFile())) {
+            throw new AppException(ErrorCode.REPORT_EXPORT_NOT_FOUND);
+        }
+        return job;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${application.report.export.cleanup-interval}")
+    public void cleanExpiredExports () {
+        Instant expiredBefore = Instant.now().minus(ttl);
+        jobs.values().removeIf(job -> {
+            if (job.getFinishedAt() == null || job.getFinishedAt().isAfter(expiredBefore)) {
+                return false;
+            }
+            if (job.getFile() != null) {
+                deleteFile(job.getFile());
+            }
+            return true;
+        });
+    }
+
+    private void buildExport (ReportExportJob job) {
+        Path file = spoolDir.resolve(job.getId() + "." + job.getFormat().getExtension());
+        try {
+            job.setStatus(EExportJobStatus.RUNNING);
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+                reportService.writeReport(job.getSortBy(), job.getSortDirection(), job.getLocationId(),
+                        job.getFormat(), outputStream);
+            }
+            job.setFile(file);
+            job.setFinishedAt(Instant.now());
+            job.setStatus(EExportJobStatus.COMPLETED);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            if (job.getStatus() != EExportJobStatus.COMPLETED) {
+                deleteFile(file);
+                job.setFinishedAt(Instant.now());
+                job.setStatus(EExportJobStatus.FAILED);
+            }
+            activeJobs.remove(job.getKey(), job);
+        }
+    }
+
+    private ReportExportJob findJob (String jobId) {
+        ReportExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new AppException(ErrorCode.REPORT_EXPORT_NOT_FOUND);
+        }
+        boolean visible = job.getLocationId() == null
+                ? reportScope.isHeadOffice()
+                : job.getLocationId().equals(authUtil.getCurrentLocationId());
+        if (!visible) {
+            throw new AppException(ErrorCode.REPORT_EXPORT_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void deleteFile (Path file) {
+        try {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException e) {
+            log.warn("Cannot delete report export file {}", file, e);
+        }
+    }
+
+    private static ReportExportJobResponse toResponse (ReportExportJob job) {
+        return ReportExportJobResponse.builder()
+                .jobId(job.getId())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
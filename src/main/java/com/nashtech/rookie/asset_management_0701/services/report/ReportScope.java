@@ -0,0 +1,37 @@
+package com.nashtech.rookie.asset_management_0701.services.report;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+import lombok.RequiredArgsConstructor;
+
+// every admin reports on their own location, only the admins of a configured head-office location may ask
+// for all of them at once. none is configured by default
+@Component
+@RequiredArgsConstructor
+public class ReportScope {
+    private final AuthUtil authUtil;
+
+    @Value("${application.report.head-office-location-ids:}")
+    private Set<Long> headOfficeLocationIds;
+
+    // null stands for every location
+    public Long resolveLocationId (Boolean allLocations) {
+        if (!Boolean.TRUE.equals(allLocations)) {
+            return authUtil.getCurrentLocationId();
+        }
+        if (!isHeadOffice()) {
+            throw new AppException(ErrorCode.UNAUTHORIZED);
+        }
+        return null;
+    }
+
+    public boolean isHeadOffice () {
+        return headOfficeLocationIds.contains(authUtil.getCurrentLocationId());
+    }
+}
@@ -1,13 +1,19 @@
 package com.nashtech.rookie.asset_management_0701.services.report;
 
-import org.springframework.core.io.Resource;
+import java.io.OutputStream;
 
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
 
 
 public interface ReportService {
-    PaginationResponse<ReportResponse> getReport (Integer page, Integer pageSize, String sortBy, String sortDirection);
+    PaginationResponse<ReportResponse> getReport (Integer page, Integer pageSize, String sortBy, String sortDirection,
+                                                  Boolean allLocations);
 
-    Resource exportReport (String sortBy, String sortDirection);
+    void exportReport (String sortBy, String sortDirection, Boolean allLocations, EExportFormat format,
+                       OutputStream outputStream);
+
+    void writeReport (String sortBy, String sortDirection, Long locationId, EExportFormat format,
+                      OutputStream outputStream);
 }
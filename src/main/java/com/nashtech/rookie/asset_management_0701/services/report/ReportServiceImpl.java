@@ -1,34 +1,92 @@
 package com.nashtech.rookie.asset_management_0701.services.report;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
-import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryStateCounterRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
 import com.nashtech.rookie.asset_management_0701.utils.PageSortUtil;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportColumn;
 import com.nashtech.rookie.asset_management_0701.utils.report.ReportUtil;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportWriter;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportWriterResolver;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService {
+    private static final List<ReportColumn<ReportResponse>> REPORT_COLUMNS = List.of(
+        new ReportColumn<>("categoryId", ReportResponse::getCategoryId),
+        new ReportColumn<>("categoryName", ReportResponse::getCategoryName),
+        new ReportColumn<>("locationId", ReportResponse::getLocationId),
+        new ReportColumn<>("locationName", ReportResponse::getLocationName),
+        new ReportColumn<>("total", ReportResponse::getTotal),
+        new ReportColumn<>("assignedCount", ReportResponse::getAssignedCount),
+        new ReportColumn<>("availableCount", ReportResponse::getAvailableCount),
+        new ReportColumn<>("notAvailableCount", ReportResponse::getNotAvailableCount),
+        new ReportColumn<>("waitingForRecycleCount", ReportResponse::getWaitingForRecycleCount),
+        new ReportColumn<>("recycledCount", ReportResponse::getRecycledCount)
+    );
+
     private final ReportUtil reportUtil;
-    private final CategoryRepository categoryRepository;
+    private final ReportWriterResolver reportWriterResolver;
+    private final CategoryStateCounterRepository counterRepository;
+    private final LocationRepository locationRepository;
+    private final ReportScope reportScope;
+    private final ThreadPoolTaskExecutor reportExecutor;
+    private final Map<String, Comparator<ReportResponse>> reportComparators = Map.ofEntries(
+        Map.entry("id", Comparator.comparing(ReportResponse::getCategoryId)),
+        Map.entry("name", Comparator.comparing(ReportResponse::getCategoryName)),
+        Map.entry("total", Comparator.comparing(ReportResponse::getTotal)),
+        Map.entry("assignedCount", Comparator.comparing(ReportResponse::getAssignedCount)),
+        Map.entry("availableCount", Comparator.comparing(ReportResponse::getAvailableCount)),
+        Map.entry("notAvailableCount", Comparator.comparing(ReportResponse::getNotAvailableCount)),
+        Map.entry("waitingForRecycleCount", Comparator.comparing(ReportResponse::getWaitingForRecycleCount)),
+        Map.entry("recycledCount", Comparator.comparing(ReportResponse::getRecycledCount))
+    );
 
     @Override
     public PaginationResponse<ReportResponse> getReport (Integer page, Integer pageSize
-                                                        , String sortBy, String sortDirection) {
+                                                        , String sortBy, String sortDirection
+                                                        , Boolean allLocations) {
         Sort sort = Sort.by(PageSortUtil.parseSortDirection(sortDirection), sortBy);
         Pageable pageable = PageSortUtil.createPageRequest(page, pageSize, sort);
 
-        Page<ReportResponse> reports = categoryRepository.getReport(pageable);
+        Long locationId = reportScope.resolveLocationId(allLocations);
+        if (locationId == null) {
+            List<ReportResponse> reports = getAllLocationsReport(sort);
+            int from = (int) Math.min(pageable.getOffset(), reports.size());
+            int to = Math.min(from + pageable.getPageSize(), reports.size());
+
+            return PaginationResponse.<ReportResponse>builder()
+                    .page(pageable.getPageNumber() + 1)
+                    .itemsPerPage(pageable.getPageSize())
+                    .total((long) reports.size())
+                    .data(reports.subList(from, to))
+                    .build();
+        }
+
+        Page<ReportResponse> reports = counterRepository.getReport(locationId, pageable);
 
         return PaginationResponse.<ReportResponse>builder()
                 .page(reports.getNumber() + 1)
@@ -39,10 +97,99 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
-    public Resource exportReport (String sortBy, String sortDirection) {
+    @Transactional(readOnly = true)
+    public void exportReport (String sortBy, String sortDirection, Boolean allLocations, EExportFormat format,
+                              OutputStream outputStream) {
+        writeReport(sortBy, sortDirection, reportScope.resolveLocationId(allLocations), format, outputStream);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeReport (String sortBy, String sortDirection, Long locationId, EExportFormat format,
+                             OutputStream outputStream) {
         Sort sort = Sort.by(PageSortUtil.parseSortDirection(sortDirection), sortBy);
-        Pageable pageable = Pageable.unpaged(sort);
-        List<ReportResponse> reportList = categoryRepository.getReport(pageable).getContent();
-        return new InputStreamResource(reportUtil.writeExcel(reportList));
+        if (format == EExportFormat.XLSX) {
+            List<ReportResponse> reports = locationId == null
+                    ? getAllLocationsReport(sort)
+                    : counterRepository.getReport(locationId, Pageable.unpaged(sort)).getContent();
+            reportUtil.writeExcel(reports, outputStream);
+            return;
+        }
+
+        ReportWriter writer = reportWriterResolver.getWriter(format);
+        try (Stream<ReportResponse> reports = locationId == null
+                ? getAllLocationsReport(sort).stream()
+                : counterRepository.streamReport(locationId, sort)) {
+            writer.write(REPORT_COLUMNS, reports, outputStream);
+        }
+    }
+
+    private List<ReportResponse> getAllLocationsReport (Sort sort) {
+        Comparator<ReportResponse> comparator = getComparator(sort);
+
+        List<CompletableFuture<List<ReportResponse>>> partials = new ArrayList<>();
+        for (Location location : locationRepository.findAll()) {
+            partials.add(CompletableFuture.supplyAsync(
+                    () -> counterRepository.getReport(location.getId(), Pageable.unpaged()).getContent(),
+                    reportExecutor));
+        }
+
+        Map<Long, ReportResponse> merged = new LinkedHashMap<>();
+        for (CompletableFuture<List<ReportResponse>> partial : partials) {
+            for (ReportResponse response : joinPartial(partial)) {
+                merged.merge(response.getCategoryId(), withoutLocation(response), ReportServiceImpl::sum);
+            }
+        }
+
+        List<ReportResponse> reports = new ArrayList<>(merged.values());
+        reports.sort(comparator);
+        return reports;
+    }
+
+    private Comparator<ReportResponse> getComparator (Sort sort) {
+        Sort.Order order = sort.iterator().next();
+        Comparator<ReportResponse> comparator = reportComparators.get(order.getProperty());
+        if (comparator == null) {
+            throw new AppException(ErrorCode.INVALID_SORT_FIELD);
+        }
+        return order.isAscending() ? comparator : comparator.reversed();
+    }
+
+    private static List<ReportResponse> joinPartial (CompletableFuture<List<ReportResponse>> partial) {
+        try {
+            return partial.join();
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static ReportResponse withoutLocation (ReportResponse response) {
+        return ReportResponse.builder()
+                .categoryId(response.getCategoryId())
+                .categoryName(response.getCategoryName())
+                .total(response.getTotal())
+                .assignedCount(response.getAssignedCount())
+                .availableCount(response.getAvailableCount())
+                .notAvailableCount(response.getNotAvailableCount())
+                .waitingForRecycleCount(response.getWaitingForRecycleCount())
+                .recycledCount(response.getRecycledCount())
+                .build();
+    }
+
+    private static ReportResponse sum (ReportResponse left, ReportResponse right) {
+        return ReportResponse.builder()
+                .categoryId(left.getCategoryId())
+                .categoryName(left.getCategoryName())
+                .total(left.getTotal() + right.getTotal())
+                .assignedCount(left.getAssignedCount() + right.getAssignedCount())
+                .availableCount(left.getAvailableCount() + right.getAvailableCount())
+                .notAvailableCount(left.getNotAvailableCount() + right.getNotAvailableCount())
+                .waitingForRecycleCount(left.getWaitingForRecycleCount() + right.getWaitingForRecycleCount())
+                .recycledCount(left.getRecycledCount() + right.getRecycledCount())
+                .build();
     }
 }
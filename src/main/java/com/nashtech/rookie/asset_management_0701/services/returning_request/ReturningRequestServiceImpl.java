@@ -2,8 +2,8 @@ package com.nashtech.rookie.asset_management_0701.services.returning_request;
 import java.time.LocalDate;
 import java.util.Map;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.nashtech.rookie.asset_management_0701.dtos.filters.ReturningRequestFilter;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.returning_request.ReturningRequestResponseDto;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
 import com.nashtech.rookie.asset_management_0701.entities.Assignment;
 import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.ReturningRequest;
@@ -19,11 +20,16 @@ import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentReturnState;
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentState;
+import com.nashtech.rookie.asset_management_0701.enums.ECountMode;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.mappers.ReturningRequestMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.AssignmentRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.ReturningRequestRepository;
+import com.nashtech.rookie.asset_management_0701.services.count.CountKey;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
+import com.nashtech.rookie.asset_management_0701.utils.KeysetPageUtil;
 import com.nashtech.rookie.asset_management_0701.utils.PageSortUtil;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +42,8 @@ public class ReturningRequestServiceImpl implements ReturningRequestService {
     private final ReturningRequestRepository returningRequestRepository;
     private final AuthUtil authUtil;
     private final ReturningRequestMapper returningRequestMapper;
+    private final ReportCounterService reportCounterService;
+    private final PageCountService pageCountService;
     private final Map<String, String> sortBy = Map.ofEntries(
             Map.entry("assetName", "assignment_asset_name"),
             Map.entry("assetCode", "assignment_asset_assetCode"),
@@ -52,20 +60,29 @@ public class ReturningRequestServiceImpl implements ReturningRequestService {
         Sort sort = Sort.by(PageSortUtil.parseSortDirection(filter.getSortDir()), sortBy.get(filter.getOrderBy()));
         Pageable pageable = PageSortUtil.createPageRequest(filter.getPageNumber()
                 , filter.getPageSize(), sort);
-        Location currentLocation = authUtil.getCurrentUser().getLocation();
+        Location currentLocation = authUtil.getCurrentLocation();
 
-        Page<ReturningRequest> returningRequests = returningRequestRepository.findAll(
-                Specification.where(ReturningRequestSpecification.hasAssetName(filter.getSearchString())
-                                .or(ReturningRequestSpecification.hasAssetCode(filter.getSearchString()))
-                                .or(ReturningRequestSpecification.hasRequestUserName(filter.getSearchString()))
-                                .and(ReturningRequestSpecification.hasReturnDate(filter.getReturnDate()))
-                                .and(ReturningRequestSpecification.hasLocation(currentLocation))
-                                .and(ReturningRequestSpecification.hasState(filter.getStates())))
-                        , pageable);
+        Specification<ReturningRequest> specification = Specification
+                .where(ReturningRequestSpecification.hasAssetName(filter.getSearchString())
+                        .or(ReturningRequestSpecification.hasAssetCode(filter.getSearchString()))
+                        .or(ReturningRequestSpecification.hasRequestUserName(filter.getSearchString()))
+                        .and(ReturningRequestSpecification.hasReturnDate(filter.getReturnDate()))
+                        .and(ReturningRequestSpecification.hasLocation(currentLocation))
+                        .and(ReturningRequestSpecification.hasState(filter.getStates())));
+
+        if (filter.getCursor() != null) {
+            return KeysetPageUtil.findPage(returningRequestRepository, specification, sort, filter.getCursor(),
+                    filter.getPageSize(), returningRequestMapper::toReturningRequestDto);
+        }
+
+        Slice<ReturningRequest> returningRequests = pageCountService.findPage(returningRequestRepository,
+                specification, pageable, ECountMode.fromValue(filter.getCountMode()),
+                CountKey.of(ReturningRequest.class, currentLocation.getId(), filter.getSearchString(),
+                        filter.getReturnDate(), filter.getStates()));
 
         return PaginationResponse.<ReturningRequestResponseDto>builder()
                 .page(pageable.getPageNumber() + 1)
-                .total(returningRequests.getTotalElements())
+                .total(PageSortUtil.getTotal(returningRequests))
                 .itemsPerPage(pageable.getPageSize())
                 .data(returningRequests.map(returningRequestMapper::toReturningRequestDto).toList())
                 .build();
@@ -83,7 +100,10 @@ public class ReturningRequestServiceImpl implements ReturningRequestService {
         }
 
         returningRequest.setState(EAssignmentReturnState.COMPLETED);
-        returningRequest.getAssignment().getAsset().setState(EAssetState.AVAILABLE);
+        Asset asset = returningRequest.getAssignment().getAsset();
+        EAssetState oldState = asset.getState();
+        asset.setState(EAssetState.AVAILABLE);
+        reportCounterService.applyTransition(asset, oldState, EAssetState.AVAILABLE);
         returningRequest.getAssignment().setState(EAssignmentState.RETURNED);
         returningRequest.setReturnDate(LocalDate.now());
         returningRequest.setAcceptedBy(authUtil.getCurrentUser());
@@ -11,6 +11,7 @@ import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.ReturningRequest;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentReturnState;
+import com.nashtech.rookie.asset_management_0701.utils.SearchPatternUtil;
 import jakarta.persistence.criteria.Join;
 
 public final class ReturningRequestSpecification {
@@ -19,28 +20,37 @@ public final class ReturningRequestSpecification {
     }
 
     public static Specification<ReturningRequest> hasAssetName (String assetName) {
-        String lowerCase = assetName == null ? "" : assetName.trim().toLowerCase();
         return (root, query, criteriaBuilder) -> {
+            if (SearchPatternUtil.isBlank(assetName)) {
+                return null;
+            }
             Join<ReturningRequest, Assignment> assignment = root.join("assignment");
             Join<Assignment, Asset> asset = assignment.join("asset");
-            return criteriaBuilder.like(criteriaBuilder.lower(asset.get("name")), "%" + lowerCase + "%");
+            return criteriaBuilder.like(criteriaBuilder.lower(asset.get("name")),
+                    SearchPatternUtil.toContainsPattern(assetName), SearchPatternUtil.ESCAPE_CHAR);
         };
     }
 
     public static Specification<ReturningRequest> hasAssetCode (String assetCode) {
-        String lowerCase = assetCode == null ? "" : assetCode.trim().toLowerCase();
         return (root, query, criteriaBuilder) -> {
+            if (SearchPatternUtil.isBlank(assetCode)) {
+                return null;
+            }
             Join<ReturningRequest, Assignment> assignment = root.join("assignment");
             Join<Assignment, Asset> asset = assignment.join("asset");
-            return criteriaBuilder.like(criteriaBuilder.lower(asset.get("assetCode")), "%" + lowerCase + "%");
+            return criteriaBuilder.like(criteriaBuilder.lower(asset.get("assetCode")),
+                    SearchPatternUtil.toContainsPattern(assetCode), SearchPatternUtil.ESCAPE_CHAR);
         };
     }
 
     public static Specification<ReturningRequest> hasRequestUserName (String username){
-        String lowerCaseName = username == null ? "" : username.trim().toLowerCase();
         return (root, query, criteriaBuilder) -> {
+            if (SearchPatternUtil.isBlank(username)) {
+                return null;
+            }
             Join<Assignment, User> assignmentAsset = root.join("requestedBy");
-            return criteriaBuilder.like(criteriaBuilder.lower(assignmentAsset.get("username")), "%"+lowerCaseName+"%");
+            return criteriaBuilder.like(criteriaBuilder.lower(assignmentAsset.get("username")),
+                    SearchPatternUtil.toContainsPattern(username), SearchPatternUtil.ESCAPE_CHAR);
         };
     }
 
@@ -0,0 +1,75 @@
+package com.nashtech.rookie.asset_management_0701.services.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of entity ids kept in a primitive array, so a posting list costs 8 bytes per id
+ * and intersections are a linear merge.
+ */
+final class LongPostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+
+    private int size;
+
+    int size () {
+        return size;
+    }
+
+    boolean isEmpty () {
+        return size == 0;
+    }
+
+    long get (int index) {
+        return ids[index];
+    }
+
+    boolean contains (long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    void add (long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove (long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    LongPostingList intersect (LongPostingList other) {
+        LongPostingList result = new LongPostingList();
+        result.ids = new long[Math.max(Math.min(size, other.size), 1)];
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (ids[i] < other.ids[j]) {
+                i++;
+            }
+            else if (ids[i] > other.ids[j]) {
+                j++;
+            }
+            else {
+                result.ids[result.size++] = ids[i];
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+}
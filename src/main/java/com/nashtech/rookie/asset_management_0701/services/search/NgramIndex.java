@@ -0,0 +1,139 @@
+package com.nashtech.rookie.asset_management_0701.services.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from every 1, 2 and 3 character gram of a document's terms to the ids containing it.
+ * A query of three or more characters intersects the postings of its trigrams, shorter queries read
+ * their gram directly, and candidates are then checked against the terms to drop trigram false positives.
+ */
+final class NgramIndex {
+    static final int GRAM_SIZE = 3;
+
+    private static final Comparator<SuggestDocument> LABEL_ORDER =
+            Comparator.comparing(SuggestDocument::label, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingLong(SuggestDocument::id);
+
+    private final Map<String, LongPostingList> postings = new HashMap<>();
+
+    private final Map<Long, SuggestDocument> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put (SuggestDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.id());
+            documents.put(document.id(), document);
+            for (String gram : grams(document)) {
+                postings.computeIfAbsent(gram, key -> new LongPostingList()).add(document.id());
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove (long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size () {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<SuggestDocument> search (String query, int limit) {
+        lock.readLock().lock();
+        try {
+            LongPostingList candidates = candidates(query);
+            if (candidates == null) {
+                return List.of();
+            }
+            List<SuggestDocument> prefixMatches = new ArrayList<>();
+            List<SuggestDocument> otherMatches = new ArrayList<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                SuggestDocument document = documents.get(candidates.get(i));
+                if (document.startsWith(query)) {
+                    prefixMatches.add(document);
+                }
+                else if (document.matches(query)) {
+                    otherMatches.add(document);
+                }
+            }
+            prefixMatches.sort(LABEL_ORDER);
+            otherMatches.sort(LABEL_ORDER);
+            prefixMatches.addAll(otherMatches);
+            return List.copyOf(prefixMatches.subList(0, Math.min(limit, prefixMatches.size())));
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private LongPostingList candidates (String query) {
+        if (query.length() < GRAM_SIZE) {
+            return postings.get(query);
+        }
+        List<LongPostingList> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM_SIZE <= query.length(); i++) {
+            LongPostingList list = postings.get(query.substring(i, i + GRAM_SIZE));
+            if (list == null) {
+                return null;
+            }
+            lists.add(list);
+        }
+        // start from the rarest gram so every intersection step stays small
+        lists.sort(Comparator.comparingInt(LongPostingList::size));
+        LongPostingList result = lists.get(0);
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result = result.intersect(lists.get(i));
+        }
+        return result;
+    }
+
+    private void removeDocument (long id) {
+        SuggestDocument previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            LongPostingList list = postings.get(gram);
+            list.remove(id);
+            if (list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams (SuggestDocument document) {
+        Set<String> grams = new HashSet<>();
+        for (String term : document.terms()) {
+            for (int length = 1; length <= GRAM_SIZE; length++) {
+                for (int i = 0; i + length <= term.length(); i++) {
+                    grams.add(term.substring(i, i + length));
+                }
+            }
+        }
+        return grams;
+    }
+}
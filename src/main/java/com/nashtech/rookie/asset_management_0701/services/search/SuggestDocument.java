@@ -0,0 +1,24 @@
+package com.nashtech.rookie.asset_management_0701.services.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+record SuggestDocument(long id, String code, String label, List<String> terms) {
+
+    static SuggestDocument of (long id, String code, String label, String... terms) {
+        List<String> normalized = Arrays.stream(terms)
+                .filter(term -> term != null && !term.isBlank())
+                .map(term -> term.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        return new SuggestDocument(id, code, label, normalized);
+    }
+
+    boolean matches (String query) {
+        return terms.stream().anyMatch(term -> term.contains(query));
+    }
+
+    boolean startsWith (String query) {
+        return terms.stream().anyMatch(term -> term.startsWith(query));
+    }
+}
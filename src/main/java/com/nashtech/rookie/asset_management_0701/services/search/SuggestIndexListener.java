@@ -0,0 +1,64 @@
+package com.nashtech.rookie.asset_management_0701.services.search;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+import com.nashtech.rookie.asset_management_0701.services.cache.CacheInvalidationService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SuggestIndexListener {
+    // resolved lazily, the listener is built with the entity manager factory the service depends on
+    private final ObjectProvider<SuggestService> suggestService;
+
+    // the index is held per node, the other nodes hear of the write over the invalidation bus
+    private final ObjectProvider<CacheInvalidationService> cacheInvalidationService;
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite (Object entity) {
+        if (entity instanceof Asset asset) {
+            afterCommit(() -> suggestService.getObject().indexAsset(asset));
+            cacheInvalidationService.getObject().reindex(ESuggestType.ASSET, asset.getId());
+        }
+        else if (entity instanceof User user) {
+            afterCommit(() -> suggestService.getObject().indexUser(user));
+            cacheInvalidationService.getObject().reindex(ESuggestType.USER, user.getId());
+        }
+    }
+
+    @PostRemove
+    public void onRemove (Object entity) {
+        if (entity instanceof Asset asset) {
+            afterCommit(() -> suggestService.getObject().remove(ESuggestType.ASSET, asset.getId()));
+            cacheInvalidationService.getObject().reindex(ESuggestType.ASSET, asset.getId());
+        }
+        else if (entity instanceof User user) {
+            afterCommit(() -> suggestService.getObject().remove(ESuggestType.USER, user.getId()));
+            cacheInvalidationService.getObject().reindex(ESuggestType.USER, user.getId());
+        }
+    }
+
+    // a rolled back write must not show up in suggestions
+    private static void afterCommit (Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit () {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.nashtech.rookie.asset_management_0701.services.search;
+
+import java.util.List;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.SuggestionResponse;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+
+public interface SuggestService {
+    List<SuggestionResponse> suggest (ESuggestType type, String query, Integer limit);
+
+    void rebuildIndexes ();
+
+    void indexAsset (Asset asset);
+
+    void indexUser (User user);
+
+    void remove (ESuggestType type, Long id);
+
+    void reindex (ESuggestType type, Long id);
+}
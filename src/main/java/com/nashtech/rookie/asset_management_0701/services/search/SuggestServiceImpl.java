@@ -0,0 +1,150 @@
+package com.nashtech.rookie.asset_management_0701.services.search;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.AssetSuggestRow;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.SuggestionResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.UserSuggestRow;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class SuggestServiceImpl implements SuggestService {
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final AssetRepository assetRepository;
+    private final UserRepository userRepository;
+    private final AuthUtil authUtil;
+
+    // one index per location and type, an admin only ever searches their own location
+    private final Map<ESuggestType, Map<Long, NgramIndex>> indexes = newIndexes();
+
+    @Override
+    public List<SuggestionResponse> suggest (ESuggestType type, String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        NgramIndex index = indexes.get(type).get(authUtil.getCurrentLocationId());
+        if (index == null) {
+            return List.of();
+        }
+        int size = limit == null ? DEFAULT_LIMIT : Math.clamp(limit, 1, MAX_LIMIT);
+        return index.search(query.trim().toLowerCase(Locale.ROOT), size).stream()
+                .map(document -> SuggestionResponse.builder()
+                        .id(document.id())
+                        .code(document.code())
+                        .label(document.label())
+                        .build())
+                .toList();
+    }
+
+    // streams only the indexed columns in id order, so no entity or its eager location is ever loaded.
+    // also run when the invalidation bus may have lost changes, so the rows are indexed aside and swapped in
+    // per location, which drops the entries of rows removed meanwhile without emptying the live indexes
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexes () {
+        Map<ESuggestType, Map<Long, NgramIndex>> rebuilt = newIndexes();
+        try (Stream<AssetSuggestRow> assets = assetRepository.streamSuggestRows()) {
+            assets.forEach(row -> put(rebuilt, ESuggestType.ASSET, row.locationId(), assetDocument(row)));
+        }
+        try (Stream<UserSuggestRow> users = userRepository.streamSuggestRows(EUserStatus.DISABLED)) {
+            users.forEach(row -> put(rebuilt, ESuggestType.USER, row.locationId(), userDocument(row)));
+        }
+        rebuilt.forEach((type, locations) -> {
+            Map<Long, NgramIndex> live = indexes.get(type);
+            live.putAll(locations);
+            live.keySet().retainAll(locations.keySet());
+            log.info("Suggest index for {} holds {} entries", type,
+                    locations.values().stream().mapToInt(NgramIndex::size).sum());
+        });
+    }
+
+    @Override
+    public void indexAsset (Asset asset) {
+        put(indexes, ESuggestType.ASSET, asset.getLocation() == null ? null : asset.getLocation().getId(),
+                assetDocument(new AssetSuggestRow(asset.getId(), asset.getAssetCode(), asset.getName(), null)));
+    }
+
+    @Override
+    public void indexUser (User user) {
+        if (user.getStatus() == EUserStatus.DISABLED) {
+            remove(ESuggestType.USER, user.getId());
+            return;
+        }
+        put(indexes, ESuggestType.USER, user.getLocation() == null ? null : user.getLocation().getId(),
+                userDocument(new UserSuggestRow(user.getId(), user.getStaffCode(), user.getFirstName(),
+                        user.getLastName(), user.getUsername(), null)));
+    }
+
+    @Override
+    public void remove (ESuggestType type, Long id) {
+        indexes.get(type).values().forEach(index -> index.remove(id));
+    }
+
+    // the write was made on another node, a row that is gone or now disabled leaves the index
+    @Override
+    public void reindex (ESuggestType type, Long id) {
+        Optional<SuggestDocumentRow> row = type == ESuggestType.ASSET
+                ? assetRepository.findSuggestRow(id).map(asset -> new SuggestDocumentRow(asset.locationId(),
+                        assetDocument(asset)))
+                : userRepository.findSuggestRow(id, EUserStatus.DISABLED).map(user ->
+                        new SuggestDocumentRow(user.locationId(), userDocument(user)));
+        row.ifPresentOrElse(found -> put(indexes, type, found.locationId(), found.document()),
+                () -> remove(type, id));
+    }
+
+    private static SuggestDocument assetDocument (AssetSuggestRow row) {
+        return SuggestDocument.of(row.id(), row.assetCode(), row.name(), row.name(), row.assetCode());
+    }
+
+    private static SuggestDocument userDocument (UserSuggestRow row) {
+        String fullName = row.firstName() + " " + row.lastName();
+        return SuggestDocument.of(row.id(), row.staffCode(), fullName, fullName, row.staffCode(), row.username());
+    }
+
+    private static Map<ESuggestType, Map<Long, NgramIndex>> newIndexes () {
+        return new EnumMap<>(Map.of(
+                ESuggestType.ASSET, new ConcurrentHashMap<>(),
+                ESuggestType.USER, new ConcurrentHashMap<>()));
+    }
+
+    private static void put (Map<ESuggestType, Map<Long, NgramIndex>> target, ESuggestType type, Long locationId,
+                             SuggestDocument document) {
+        Map<Long, NgramIndex> locations = target.get(type);
+        // an entity moved to another location must leave its old index
+        locations.forEach((id, index) -> {
+            if (!id.equals(locationId)) {
+                index.remove(document.id());
+            }
+        });
+        if (locationId != null) {
+            locations.computeIfAbsent(locationId, id -> new NgramIndex()).put(document);
+        }
+    }
+
+    private record SuggestDocumentRow(Long locationId, SuggestDocument document) {
+    }
+}
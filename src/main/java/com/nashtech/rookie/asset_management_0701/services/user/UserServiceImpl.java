@@ -5,7 +5,6 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Set;
 
-import org.springframework.cache.CacheManager;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +21,7 @@ import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationRespon
 import com.nashtech.rookie.asset_management_0701.dtos.responses.user.UserResponse;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentState;
+import com.nashtech.rookie.asset_management_0701.enums.ECountMode;
 import com.nashtech.rookie.asset_management_0701.enums.ERole;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
@@ -31,6 +31,10 @@ import com.nashtech.rookie.asset_management_0701.repositories.AssignmentReposito
 import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
 import com.nashtech.rookie.asset_management_0701.services.assignment.AssignmentSpecification;
+import com.nashtech.rookie.asset_management_0701.services.cache.CacheInvalidationService;
+import com.nashtech.rookie.asset_management_0701.services.count.CountKey;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import com.nashtech.rookie.asset_management_0701.utils.KeysetPageUtil;
 import com.nashtech.rookie.asset_management_0701.utils.PageSortUtil;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 import com.nashtech.rookie.asset_management_0701.utils.user.UserUtil;
@@ -47,7 +51,8 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthUtil authUtil;
     private final UserUtil userUtil;
-    private final CacheManager cacheManager;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final PageCountService pageCountService;
 
     @Override
     @Transactional
@@ -113,8 +118,8 @@ public class UserServiceImpl implements UserService {
                 DefaultSortOptions.DEFAULT_USER_SORT_BY);
 
         var searchString = dto.getSearchString();
-        var currentUser = authUtil.getCurrentUser();
-        var currentLocation = currentUser.getLocation();
+        var currentUserId = authUtil.getCurrentUserId();
+        var currentLocation = authUtil.getCurrentLocation();
 
         var specification = Specification.where(UserSpecification.hasNameContains(searchString))
                 .or(UserSpecification.hasStaffCodeContains(searchString))
@@ -123,14 +128,22 @@ public class UserServiceImpl implements UserService {
                 .and(UserSpecification.isNotDisabled());
 
         if (excludeCurrentUser) {
-            specification = specification.and(UserSpecification.excludeUser(currentUser));
+            specification = specification.and(UserSpecification.excludeUser(currentUserId));
         }
 
-        var users = userRepository.findAll(specification, pageRequest);
+        if (dto.getCursor() != null) {
+            return KeysetPageUtil.findPage(userRepository, specification, pageRequest.getSort(), dto.getCursor(),
+                    dto.getPageSize(), userMapper::toUserResponse);
+        }
+
+        var users = pageCountService.findPage(userRepository, specification, pageRequest,
+                ECountMode.fromValue(dto.getCountMode()),
+                CountKey.of(User.class, currentLocation.getId(), searchString, dto.getType(),
+                        excludeCurrentUser ? currentUserId : null));
 
         return PaginationResponse.<UserResponse>builder()
                 .page(pageRequest.getPageNumber() + 1)
-                .total(users.getTotalElements())
+                .total(PageSortUtil.getTotal(users))
                 .itemsPerPage(pageRequest.getPageSize())
                 .data(users.map(userMapper::toUserResponse).toList())
                 .build();
@@ -176,8 +189,7 @@ public class UserServiceImpl implements UserService {
             throw new AppException(ErrorCode.USER_NOT_FOUND);
         }
 
-        User currentAdmin = authUtil.getCurrentUser();
-        if (!currentAdmin.getLocation().equals(userToDisable.getLocation())){
+        if (!userToDisable.getLocation().getId().equals(authUtil.getCurrentLocationId())){
             throw new AppException(ErrorCode.USER_NOT_FOUND);
         }
 
@@ -187,7 +199,7 @@ public class UserServiceImpl implements UserService {
 
         userToDisable.setStatus(EUserStatus.DISABLED);
         userRepository.save(userToDisable);
-        cacheManager.getCache("userDisable").evict(userToDisable.getUsername());
+        cacheInvalidationService.evict("userDisable", userToDisable.getUsername());
     }
 
     public Boolean existsCurrentAssignment (Long userId) {
@@ -212,7 +224,7 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserResponse editUser (Long id, UserUpdateRequest userUpdateRequest) {
-        User existUser = userRepository.findByIdAndLocation(id, authUtil.getCurrentUser().getLocation())
+        User existUser = userRepository.findByIdAndLocation(id, authUtil.getCurrentLocation())
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
 
         if (!existUser.getVersion().equals(userUpdateRequest.getVersion())) {
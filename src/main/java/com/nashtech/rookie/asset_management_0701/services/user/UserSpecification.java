@@ -4,15 +4,13 @@ package com.nashtech.rookie.asset_management_0701.services.user;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.nashtech.rookie.asset_management_0701.constants.DefaultSortOptions;
-import com.nashtech.rookie.asset_management_0701.entities.InvalidToken;
 import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.ERole;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.SetJoin;
+import com.nashtech.rookie.asset_management_0701.utils.SearchPatternUtil;
 
 
 public final class UserSpecification {
@@ -20,23 +18,21 @@ public final class UserSpecification {
     }
 
     public static Specification<User> hasNameContains (String name) {
-        if (name == null || name.trim().isEmpty()) {
+        if (SearchPatternUtil.isBlank(name)) {
             return null;
         }
-        String lowerCaseName = name.trim().toLowerCase();
+        String pattern = SearchPatternUtil.toContainsPattern(name);
         return (root, query, criteriaBuilder) ->
-                criteriaBuilder.like(criteriaBuilder.lower(
-                    criteriaBuilder.concat(criteriaBuilder.concat(root.get("firstName"), " "), root.get("lastName"))),
-                    "%" + lowerCaseName + "%");
+                criteriaBuilder.like(root.get("searchName"), pattern, SearchPatternUtil.ESCAPE_CHAR);
     }
 
     public static Specification<User> hasStaffCodeContains (String staffCode) {
-        if (staffCode == null || staffCode.trim().isEmpty()) {
+        if (SearchPatternUtil.isBlank(staffCode)) {
             return null;
         }
-        String lowerCaseName = staffCode.trim().toLowerCase();
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.like(criteriaBuilder.lower(root.get("staffCode")), "%" + lowerCaseName + "%");
+        String pattern = SearchPatternUtil.toContainsPattern(staffCode);
+        return (root, query, criteriaBuilder) -> criteriaBuilder.like(
+                criteriaBuilder.lower(root.get("staffCode")), pattern, SearchPatternUtil.ESCAPE_CHAR);
     }
 
     public static Specification<User> hasRole (String role) {
@@ -66,8 +62,8 @@ public final class UserSpecification {
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("location"), location);
     }
 
-    public static Specification<User> excludeUser (User user) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.notEqual(root, user);
+    public static Specification<User> excludeUser (Long userId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.notEqual(root.get("id"), userId);
     }
 
     public static Specification<User> isNotDisabled () {
@@ -77,13 +73,4 @@ public final class UserSpecification {
     public static Specification<User> hasUsername (String username){
         return  (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("username"), username);
     }
-
-    public static Specification<User> tokenNotExpireForUsername (String username) {
-        return (root, query, builder) -> {
-            root.fetch("invalidTokens", JoinType.LEFT);
-            final SetJoin<User, InvalidToken> userToken = root.joinSet("invalidTokens", JoinType.LEFT);
-            userToken.on(builder.greaterThan(userToken.get("expiryDate"), builder.currentTimestamp()));
-            return builder.equal(userToken.getParent().get("username"), username);
-        };
-    }
 }
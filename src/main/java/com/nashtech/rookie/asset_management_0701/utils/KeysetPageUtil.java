@@ -0,0 +1,223 @@
+package com.nashtech.rookie.asset_management_0701.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.Hibernate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import com.nashtech.rookie.asset_management_0701.constants.DefaultSortOptions;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+public final class KeysetPageUtil {
+    private static final String ID = "id";
+
+    private KeysetPageUtil () {
+    }
+
+    public static <T, R> PaginationResponse<R> findPage (JpaSpecificationExecutor<T> repository,
+                                                         Specification<T> specification, Sort sort, String cursor,
+                                                         Integer pageSize, Function<T, R> mapper) {
+        int size = Math.min(pageSize, DefaultSortOptions.MAX_PAGE_SIZE);
+        Specification<T> seek = seek(sort, decodeCursor(sort, cursor));
+
+        // the extra row tells whether there is a next page, so no count query is needed
+        List<T> rows = repository.findBy(specification.and(seek), query -> query.limit(size + 1).all());
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = encodeCursor(sort, rows.get(size - 1));
+        }
+
+        return PaginationResponse.<R>builder()
+                .itemsPerPage(size)
+                .nextCursor(nextCursor)
+                .data(rows.stream().map(mapper).toList())
+                .build();
+    }
+
+    private static <T> Specification<T> seek (Sort sort, KeysetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            HibernateCriteriaBuilder builder = (HibernateCriteriaBuilder) criteriaBuilder;
+            List<Expression<? extends Comparable<Object>>> keys = new ArrayList<>();
+            List<Order> orders = new ArrayList<>();
+            for (Sort.Order order : sort) {
+                Expression<? extends Comparable<Object>> key = getPath(root, order.getProperty());
+                keys.add(key);
+                // nulls always go last so the seek predicate does not depend on the database default
+                orders.add(order.isAscending() ? builder.asc(key, false) : builder.desc(key, false));
+            }
+            Path<Long> id = root.get(ID);
+            orders.add(builder.asc(id));
+            query.orderBy(orders);
+
+            if (cursor == null) {
+                return null;
+            }
+
+            List<Predicate> after = new ArrayList<>();
+            List<Predicate> equal = new ArrayList<>();
+            int index = 0;
+            for (Sort.Order order : sort) {
+                Expression<? extends Comparable<Object>> key = keys.get(index);
+                Comparable<Object> value = convert(cursor.values().get(index++), key.getJavaType());
+                if (value == null) {
+                    // nothing sorts after a null key, only rows sharing it can follow
+                    equal.add(builder.isNull(key));
+                    continue;
+                }
+                Predicate beyond = order.isAscending()
+                        ? builder.greaterThan(key, value)
+                        : builder.lessThan(key, value);
+                after.add(and(builder, equal, builder.or(beyond, builder.isNull(key))));
+                equal.add(builder.equal(key, value));
+            }
+            after.add(and(builder, equal, builder.greaterThan(id, cursor.id())));
+            return builder.or(after.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Predicate and (HibernateCriteriaBuilder builder, List<Predicate> equal, Predicate last) {
+        List<Predicate> predicates = new ArrayList<>(equal);
+        predicates.add(last);
+        return builder.and(predicates.toArray(new Predicate[0]));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Expression<? extends Comparable<Object>> getPath (Root<?> root, String property) {
+        String[] segments = property.split("[._]");
+        From<?, ?> from = root;
+        for (int i = 0; i < segments.length - 1; i++) {
+            from = getJoin(from, segments[i]);
+        }
+        Path<?> path = from.get(segments[segments.length - 1]);
+        if (path.getModel() instanceof SingularAttribute<?, ?> attribute && attribute.isAssociation()) {
+            path = path.get(ID);
+        }
+        return (Expression<? extends Comparable<Object>>) path;
+    }
+
+    private static From<?, ?> getJoin (From<?, ?> from, String attribute) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute)) {
+                return join;
+            }
+        }
+        return from.join(attribute, JoinType.LEFT);
+    }
+
+    private static Object getValue (Object row, String property) {
+        Object value = row;
+        for (String segment : property.split("[._]")) {
+            if (value == null) {
+                return null;
+            }
+            value = new BeanWrapperImpl(value).getPropertyValue(segment);
+        }
+        if (value != null && Hibernate.getClass(value).isAnnotationPresent(Entity.class)) {
+            value = new BeanWrapperImpl(value).getPropertyValue(ID);
+        }
+        return value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<Object> convert (String value, Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (type == String.class) {
+                return (Comparable) value;
+            }
+            if (type == Long.class) {
+                return (Comparable) Long.valueOf(value);
+            }
+            if (type == Integer.class) {
+                return (Comparable) Integer.valueOf(value);
+            }
+            if (type == LocalDate.class) {
+                return (Comparable) LocalDate.parse(value);
+            }
+            if (type.isEnum()) {
+                return (Comparable) Enum.valueOf((Class<Enum>) type, value);
+            }
+        }
+        catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+        throw new AppException(ErrorCode.INVALID_SORT_FIELD);
+    }
+
+    private static String encodeCursor (Sort sort, Object row) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeUTF(sort.toString());
+            for (Sort.Order order : sort) {
+                Object value = getValue(row, order.getProperty());
+                output.writeBoolean(value != null);
+                if (value != null) {
+                    output.writeUTF(value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
+                }
+            }
+            output.writeLong((Long) getValue(row, ID));
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private static KeysetCursor decodeCursor (Sort sort, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(
+                Base64.getUrlDecoder().decode(cursor)))) {
+            // a cursor only continues the listing it was issued for
+            if (!sort.toString().equals(input.readUTF())) {
+                throw new AppException(ErrorCode.INVALID_CURSOR);
+            }
+            List<String> values = new ArrayList<>();
+            for (int i = 0; i < sort.toList().size(); i++) {
+                values.add(input.readBoolean() ? input.readUTF() : null);
+            }
+            long id = input.readLong();
+            if (input.available() > 0) {
+                throw new AppException(ErrorCode.INVALID_CURSOR);
+            }
+            return new KeysetCursor(values, id);
+        }
+        catch (IllegalArgumentException | IOException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private record KeysetCursor(List<String> values, long id) {
+    }
+}
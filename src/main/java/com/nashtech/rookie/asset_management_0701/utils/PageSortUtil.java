@@ -2,8 +2,10 @@ package com.nashtech.rookie.asset_management_0701.utils;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 
@@ -38,6 +40,10 @@ public final class PageSortUtil {
         }
     }
 
+    public static Long getTotal (Slice<?> slice) {
+        return slice instanceof Page<?> page ? page.getTotalElements() : null;
+    }
+
     public static Sort.Direction parseSortDirection (String sortDirection) {
         try {
             return Sort.Direction.fromString(sortDirection);
@@ -0,0 +1,28 @@
+package com.nashtech.rookie.asset_management_0701.utils;
+
+import java.util.Locale;
+
+public final class SearchPatternUtil {
+    public static final char ESCAPE_CHAR = '\\';
+
+    private SearchPatternUtil () {
+    }
+
+    public static boolean isBlank (String searchString) {
+        return searchString == null || searchString.isBlank();
+    }
+
+    // LIKE '%term%' on a lower-cased expression, the form the trigram indexes are built for
+    public static String toContainsPattern (String searchString) {
+        String term = searchString.trim().toLowerCase(Locale.ROOT);
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == '%' || c == '_' || c == ESCAPE_CHAR) {
+                pattern.append(ESCAPE_CHAR);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -1,6 +1,13 @@
 package com.nashtech.rookie.asset_management_0701.utils.asset_utils;
 
+import java.time.LocalDate;
+
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+
 public final class AssetUtil {
+    // the number of a code is padded to six digits, a larger one would no longer fit the column
+    public static final long MAX_ASSET_NUMBER = 999_999;
 
     private AssetUtil () {
     }
@@ -8,4 +15,21 @@ public final class AssetUtil {
     public static String generateAssetCode (Long count, String name) {
         return String.format("%s%06d", name, count);
     }
+
+    public static void validateInstallDate (LocalDate installDate) {
+        LocalDate toThreeMonthsAgo = LocalDate.now().minusMonths(3);
+
+        if (installDate.isBefore(toThreeMonthsAgo)) {
+            throw new AppException(ErrorCode.ASSET_INSTALLED_DATE_TOO_OLD);
+        }
+    }
+
+    // an install date already older than the limit may be kept or moved later, but not moved earlier
+    public static void validateUpdateDate (LocalDate currInstalledDate, LocalDate installDate) {
+        LocalDate toThreeMonthsAgo = LocalDate.now().minusMonths(3);
+
+        if (installDate.isBefore(toThreeMonthsAgo) && installDate.isBefore(currInstalledDate)) {
+            throw new AppException(ErrorCode.ASSET_INSTALLED_DATE_TOO_OLD);
+        }
+    }
 }
@@ -1,8 +1,12 @@
 package com.nashtech.rookie.asset_management_0701.utils.auth_util;
 
+import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 
 public interface AuthUtil{
     String getCurrentUserName ();
     User getCurrentUser ();
+    Long getCurrentUserId ();
+    Long getCurrentLocationId ();
+    Location getCurrentLocation ();
 }
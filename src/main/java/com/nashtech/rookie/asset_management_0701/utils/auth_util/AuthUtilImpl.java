@@ -2,18 +2,27 @@ package com.nashtech.rookie.asset_management_0701.utils.auth_util;
 
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import com.nashtech.rookie.asset_management_0701.dtos.security.CurrentPrincipal;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class AuthUtilImpl implements AuthUtil{
+    private static final String CURRENT_USER_ATTRIBUTE = AuthUtilImpl.class.getName() + ".currentUser";
+
     private final UserRepository userRepository;
 
+    private final LocationRepository locationRepository;
+
 
     @Override
     public String getCurrentUserName () {
@@ -23,10 +32,46 @@ public class AuthUtilImpl implements AuthUtil{
 
     @Override
     public User getCurrentUser () {
+        // the full user is loaded at most once per request
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loadCurrentUser();
+        }
+        User user = (User) attributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            user = loadCurrentUser();
+            attributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    @Override
+    public Long getCurrentUserId () {
+        CurrentPrincipal principal = getCurrentPrincipal();
+        return principal != null ? principal.getId() : getCurrentUser().getId();
+    }
+
+    @Override
+    public Long getCurrentLocationId () {
+        CurrentPrincipal principal = getCurrentPrincipal();
+        return principal != null ? principal.getLocationId() : getCurrentUser().getLocation().getId();
+    }
+
+    @Override
+    public Location getCurrentLocation () {
+        // a reference is enough to filter or link by location and does not touch the users table
+        return locationRepository.getReferenceById(getCurrentLocationId());
+    }
+
+    private CurrentPrincipal getCurrentPrincipal () {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
-        var username = authentication.getName();
+        return authentication != null && authentication.getPrincipal() instanceof CurrentPrincipal principal
+                ? principal
+                : null;
+    }
 
-        return userRepository.findByUsername(username)
+    private User loadCurrentUser () {
+        return userRepository.findByUsername(getCurrentUserName())
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
     }
 }
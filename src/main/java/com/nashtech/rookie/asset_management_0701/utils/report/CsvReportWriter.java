@@ -0,0 +1,90 @@
+package com.nashtech.rookie.asset_management_0701.utils.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+
+@Component
+public class CsvReportWriter implements ReportWriter {
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    @Override
+    public EExportFormat getFormat () {
+        return EExportFormat.CSV;
+    }
+
+    @Override
+    public <T> void write (List<ReportColumn<T>> columns, Stream<T> rows, OutputStream outputStream) {
+        // the writer is only flushed, the servlet container owns the output stream
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            for (int i = 0; i < columns.size(); i++) {
+                writeSeparator(writer, i);
+                writeValue(writer, columns.get(i).name());
+            }
+            writer.write("\r\n");
+
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                for (int i = 0; i < columns.size(); i++) {
+                    writeSeparator(writer, i);
+                    writeValue(writer, columns.get(i).value().apply(row));
+                }
+                writer.write("\r\n");
+            }
+            writer.flush();
+        }
+        catch (IOException e) {
+            throw new AppException(ErrorCode.EXPORT_REPORT_ERROR);
+        }
+    }
+
+    private static void writeSeparator (Writer writer, int columnIndex) throws IOException {
+        if (columnIndex > 0) {
+            writer.write(',');
+        }
+    }
+
+    private static void writeValue (Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!needsQuoting(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting (String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,52 @@
+package com.nashtech.rookie.asset_management_0701.utils.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class NdjsonReportWriter implements ReportWriter {
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public EExportFormat getFormat () {
+        return EExportFormat.NDJSON;
+    }
+
+    @Override
+    public <T> void write (List<ReportColumn<T>> columns, Stream<T> rows, OutputStream outputStream) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // one object per line, the line break is written after every row
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                generator.writeStartObject();
+                for (ReportColumn<T> column : columns) {
+                    generator.writeFieldName(column.name());
+                    generator.writeObject(column.value().apply(row));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+        }
+        catch (IOException e) {
+            throw new AppException(ErrorCode.EXPORT_REPORT_ERROR);
+        }
+    }
+}
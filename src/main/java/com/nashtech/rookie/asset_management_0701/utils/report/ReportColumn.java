@@ -0,0 +1,6 @@
+package com.nashtech.rookie.asset_management_0701.utils.report;
+
+import java.util.function.Function;
+
+public record ReportColumn<T>(String name, Function<T, ?> value) {
+}
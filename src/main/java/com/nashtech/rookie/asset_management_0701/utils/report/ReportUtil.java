@@ -1,10 +1,10 @@
 package com.nashtech.rookie.asset_management_0701.utils.report;
 
-import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
 
 public interface ReportUtil {
-    ByteArrayInputStream writeExcel (List<ReportResponse> responses);
+    void writeExcel (List<ReportResponse> responses, OutputStream outputStream);
 }
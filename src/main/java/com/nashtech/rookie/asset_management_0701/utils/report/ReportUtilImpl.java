@@ -1,8 +1,7 @@
 package com.nashtech.rookie.asset_management_0701.utils.report;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -11,8 +10,7 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 
 import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
@@ -21,9 +19,14 @@ import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 
 @Component
 public class ReportUtilImpl implements ReportUtil{
+    // rows kept in memory before older ones are flushed to a temp file
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
     @Override
-    public ByteArrayInputStream writeExcel (List<ReportResponse> responses) {
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    public void writeExcel (List<ReportResponse> responses, OutputStream outputStream) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try (workbook) {
             Sheet sheet = workbook.createSheet("Assets report");
             sheet.setColumnWidth(4, 3000); // Not available
             sheet.setColumnWidth(5, 5000); // Waiting for recycling
@@ -51,21 +54,24 @@ public class ReportUtilImpl implements ReportUtil{
                 headerRow.getCell(i).setCellStyle(headerCellStyle);
             }
 
-            for (int i = 0; i < responses.size(); i++) {
-                Row row = sheet.createRow(i + 1);
-                row.createCell(0).setCellValue(responses.get(i).getCategoryName());
-                row.createCell(1).setCellValue(responses.get(i).getTotal());
-                row.createCell(2).setCellValue(responses.get(i).getAssignedCount());
-                row.createCell(3).setCellValue(responses.get(i).getAvailableCount());
-                row.createCell(4).setCellValue(responses.get(i).getNotAvailableCount());
-                row.createCell(5).setCellValue(responses.get(i).getWaitingForRecycleCount());
-                row.createCell(6).setCellValue(responses.get(i).getRecycledCount());
+            int rowIndex = 1;
+            for (ReportResponse response : responses) {
+                Row row = sheet.createRow(rowIndex++);
+                row.createCell(0).setCellValue(response.getCategoryName());
+                row.createCell(1).setCellValue(response.getTotal());
+                row.createCell(2).setCellValue(response.getAssignedCount());
+                row.createCell(3).setCellValue(response.getAvailableCount());
+                row.createCell(4).setCellValue(response.getNotAvailableCount());
+                row.createCell(5).setCellValue(response.getWaitingForRecycleCount());
+                row.createCell(6).setCellValue(response.getRecycledCount());
             }
-            workbook.write(out);
-            return new ByteArrayInputStream(out.toByteArray());
+            workbook.write(outputStream);
         }
         catch (IOException e) {
             throw new AppException(ErrorCode.EXPORT_REPORT_ERROR);
         }
+        finally {
+            workbook.dispose();
+        }
     }
 }
@@ -0,0 +1,13 @@
+package com.nashtech.rookie.asset_management_0701.utils.report;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+
+public interface ReportWriter {
+    EExportFormat getFormat ();
+
+    <T> void write (List<ReportColumn<T>> columns, Stream<T> rows, OutputStream outputStream);
+}
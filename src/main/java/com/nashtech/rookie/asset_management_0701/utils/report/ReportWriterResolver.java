@@ -0,0 +1,30 @@
+package com.nashtech.rookie.asset_management_0701.utils.report;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+
+@Component
+public class ReportWriterResolver {
+    private final Map<EExportFormat, ReportWriter> writers = new EnumMap<>(EExportFormat.class);
+
+    public ReportWriterResolver (List<ReportWriter> reportWriters) {
+        for (ReportWriter reportWriter : reportWriters) {
+            writers.put(reportWriter.getFormat(), reportWriter);
+        }
+    }
+
+    public ReportWriter getWriter (EExportFormat format) {
+        ReportWriter writer = writers.get(format);
+        if (writer == null) {
+            throw new AppException(ErrorCode.UNSUPPORTED_EXPORT_FORMAT);
+        }
+        return writer;
+    }
+}
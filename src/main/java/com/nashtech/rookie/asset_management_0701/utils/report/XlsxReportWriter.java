@@ -0,0 +1,62 @@
+package com.nashtech.rookie.asset_management_0701.utils.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Component;
+
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+
+@Component
+public class XlsxReportWriter implements ReportWriter {
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    @Override
+    public EExportFormat getFormat () {
+        return EExportFormat.XLSX;
+    }
+
+    @Override
+    public <T> void write (List<ReportColumn<T>> columns, Stream<T> rows, OutputStream outputStream) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try (workbook) {
+            Sheet sheet = workbook.createSheet();
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < columns.size(); i++) {
+                headerRow.createCell(i).setCellValue(columns.get(i).name());
+            }
+
+            int rowIndex = 1;
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                Row row = sheet.createRow(rowIndex++);
+                for (int i = 0; i < columns.size(); i++) {
+                    Object value = columns.get(i).value().apply(item);
+                    if (value instanceof Number number) {
+                        row.createCell(i).setCellValue(number.doubleValue());
+                    }
+                    else if (value != null) {
+                        row.createCell(i).setCellValue(value.toString());
+                    }
+                }
+            }
+            workbook.write(outputStream);
+        }
+        catch (IOException e) {
+            throw new AppException(ErrorCode.EXPORT_REPORT_ERROR);
+        }
+        finally {
+            workbook.dispose();
+        }
+    }
+}
@@ -0,0 +1,2 @@
+-- the lower-cased full name the user search matches on, V3 fills it for the rows that already exist
+alter table users add column if not exists search_name varchar(255);
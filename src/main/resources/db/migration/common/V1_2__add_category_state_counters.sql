@@ -0,0 +1,13 @@
+-- one report counter per category, location and state, kept in step with the assets by ReportCounterService
+create table if not exists category_state_counters (
+    id bigint not null,
+    amount bigint not null,
+    state varchar(255) not null
+        check (state in ('AVAILABLE','NOT_AVAILABLE','ASSIGNED','WAITING_FOR_RECYCLE','RECYCLED')),
+    category_id bigint not null,
+    location_id bigint not null,
+    primary key (id),
+    constraint uk_category_location_state unique (category_id, location_id, state),
+    constraint FKr7leg4s4t6wjcgtds4wgnpqv5 foreign key (category_id) references categories,
+    constraint FKsuf4sej0j57k5wayudxleauo5 foreign key (location_id) references locations
+);
@@ -0,0 +1,9 @@
+-- the entities take their ids from pooled sequences instead of the identity columns, on PostgreSQL V4 moves
+-- each sequence past the ids the identity columns already handed out
+create sequence if not exists assets_seq start with 1 increment by 50;
+create sequence if not exists assignments_seq start with 1 increment by 50;
+create sequence if not exists categories_seq start with 1 increment by 50;
+create sequence if not exists category_state_counters_seq start with 1 increment by 50;
+create sequence if not exists locations_seq start with 1 increment by 50;
+create sequence if not exists returning_requests_seq start with 1 increment by 50;
+create sequence if not exists users_seq start with 1 increment by 50;
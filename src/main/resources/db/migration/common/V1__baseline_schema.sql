@@ -0,0 +1,106 @@
+-- the schema ddl-auto update created for the entities before the migrations. databases created that way are
+-- baselined at V0 and run this script too, so it only creates what is missing and every later change is a
+-- script of its own
+
+create table if not exists locations (
+    id bigint generated by default as identity,
+    code varchar(255),
+    name varchar(255),
+    primary key (id)
+);
+
+create table if not exists categories (
+    id bigint generated by default as identity,
+    code varchar(2),
+    count_amount bigint,
+    name varchar(255),
+    primary key (id)
+);
+
+create table if not exists users (
+    id bigint generated by default as identity,
+    dob date,
+    join_date date,
+    first_name varchar(255),
+    last_name varchar(255),
+    gender varchar(255) check (gender in ('MALE','FEMALE')),
+    hash_password varchar(255),
+    role varchar(255) check (role in ('ADMIN','USER')),
+    staff_code varchar(255) unique,
+    status varchar(255) check (status in ('ACTIVE','FIRST_LOGIN','DISABLED')),
+    username varchar(255) unique,
+    location_id bigint,
+    version bigint default 0,
+    created_by varchar(255),
+    created_date timestamp(6),
+    last_modified_by varchar(255),
+    last_modified_date timestamp(6),
+    primary key (id),
+    -- constraint names as Hibernate generated them, so they match the baselined databases
+    constraint FKdk0xfnnthbj8afp1ira6sndte foreign key (location_id) references locations
+);
+
+create table if not exists assets (
+    id bigint generated by default as identity,
+    asset_code varchar(8),
+    name varchar(255),
+    specification varchar(1024),
+    install_date date,
+    state varchar(255) check (state in ('AVAILABLE','NOT_AVAILABLE','ASSIGNED','WAITING_FOR_RECYCLE','RECYCLED')),
+    category_id bigint,
+    location_id bigint,
+    version bigint default 0,
+    created_by varchar(255),
+    created_date timestamp(6),
+    last_modified_by varchar(255),
+    last_modified_date timestamp(6),
+    primary key (id),
+    constraint FKcvyf8pxl6m3wb2bjda2roip1f foreign key (category_id) references categories,
+    constraint FKhuexoh5k5nfvvmw9ko38oi0bl foreign key (location_id) references locations
+);
+
+create table if not exists assignments (
+    id bigint generated by default as identity,
+    assigned_date date,
+    note text,
+    state varchar(255) check (state in ('WAITING','ACCEPTED','DECLINED','RETURNED')),
+    asset_id bigint,
+    assign_by_id bigint,
+    assign_to_id bigint,
+    created_by varchar(255),
+    created_date timestamp(6),
+    last_modified_by varchar(255),
+    last_modified_date timestamp(6),
+    primary key (id),
+    constraint FKiep3tb021q3m4qhltfh2b6fg8 foreign key (asset_id) references assets,
+    constraint FKm1iqgqu4gd9eb7bqtx1wiqxox foreign key (assign_by_id) references users,
+    constraint FKhts182u57n6pgea7aevn1s2yr foreign key (assign_to_id) references users
+);
+
+create table if not exists returning_requests (
+    id bigint generated by default as identity,
+    return_date date,
+    state varchar(255) check (state in ('WAITING_FOR_RETURNING','COMPLETED')),
+    assignment_id bigint unique,
+    accepted_by_id bigint,
+    requested_by_id bigint,
+    primary key (id),
+    constraint FK4a53jf4t0t4qs8e0tgjbfgvxu foreign key (accepted_by_id) references users,
+    constraint FKnkdn1vh7xxljvbwxlatj3r8yn foreign key (assignment_id) references assignments,
+    constraint FK6md28fov0gxw4n1o9y8he0tis foreign key (requested_by_id) references users
+);
+
+create table if not exists invalid_tokens (
+    id_token varchar(255) not null,
+    expiry_date timestamp(6) with time zone,
+    user_id bigint,
+    created_by varchar(255),
+    created_date timestamp(6),
+    last_modified_by varchar(255),
+    last_modified_date timestamp(6),
+    primary key (id_token),
+    constraint FK86kw6diotcidlfvned6ocy7ri foreign key (user_id) references users
+);
+
+create index if not exists idx_asset_category_id on assets (category_id);
+create index if not exists idx_category_id on categories (id);
@@ -0,0 +1,22 @@
+-- composite indexes for the predicates every list specification applies, equality columns first
+
+-- the primary key index already covers lookups by id
+drop index if exists idx_category_id;
+
+-- AssetSpecification.hasLocation and hasStates, the asset list and the report export
+create index idx_asset_location_state on assets (location_id, state);
+
+-- AssignmentSpecification.hasLocation joins through the asset, existsByAssetId and the state filters
+create index idx_assignment_asset_state on assignments (asset_id, state);
+
+-- the own assignments list: assignToIdEquals, notStateReturned, notStateDeclined and assignedDateLessThanEqual
+create index idx_assignment_assign_to_state on assignments (assign_to_id, state, assigned_date);
+
+-- ReturningRequestSpecification.hasLocation joins through the requester, assignment_id is indexed by its unique key
+create index idx_returning_request_requested_by_state on returning_requests (requested_by_id, state);
+
+-- UserSpecification.hasLocation, isNotDisabled and hasRole
+create index idx_user_location_status on users (location_id, status, role);
+
+-- the expired token sweep and the revocation warm-up
+create index idx_invalid_token_expiry_date on invalid_tokens (expiry_date);
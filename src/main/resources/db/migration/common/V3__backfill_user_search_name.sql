@@ -0,0 +1,3 @@
+-- rows written before search_name existed, the entity fills it on every later write
+update users set search_name = lower(first_name || ' ' || last_name)
+where search_name is null and first_name is not null and last_name is not null;
@@ -0,0 +1,3 @@
+-- databases created before counters were kept per location still carry the old one-row-per-category-and-state
+-- key, which rejects the counters of every location after the first one
+alter table category_state_counters drop constraint if exists uk_category_state;
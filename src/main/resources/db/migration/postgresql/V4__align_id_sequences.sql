@@ -0,0 +1,16 @@
+-- the identity columns of V1 already handed out ids on a baselined database, V1_3 starts the sequences below them.
+-- pooled ids are handed out up to the sequence value, so it must sit a whole block above the largest id
+select setval('assets_seq', greatest((select coalesce(max(id), 0) from assets) + 50,
+        (select last_value from assets_seq)));
+select setval('assignments_seq', greatest((select coalesce(max(id), 0) from assignments) + 50,
+        (select last_value from assignments_seq)));
+select setval('categories_seq', greatest((select coalesce(max(id), 0) from categories) + 50,
+        (select last_value from categories_seq)));
+select setval('category_state_counters_seq', greatest((select coalesce(max(id), 0) from category_state_counters) + 50,
+        (select last_value from category_state_counters_seq)));
+select setval('locations_seq', greatest((select coalesce(max(id), 0) from locations) + 50,
+        (select last_value from locations_seq)));
+select setval('returning_requests_seq', greatest((select coalesce(max(id), 0) from returning_requests) + 50,
+        (select last_value from returning_requests_seq)));
+select setval('users_seq', greatest((select coalesce(max(id), 0) from users) + 50,
+        (select last_value from users_seq)));
@@ -0,0 +1,8 @@
+-- expressions must match the search specifications exactly for the planner to pick the index
+create extension if not exists pg_trgm;
+
+create index if not exists idx_asset_name_trgm on assets using gin (lower(name) gin_trgm_ops);
+create index if not exists idx_asset_code_trgm on assets using gin (lower(asset_code) gin_trgm_ops);
+create index if not exists idx_user_search_name_trgm on users using gin (search_name gin_trgm_ops);
+create index if not exists idx_user_username_trgm on users using gin (lower(username) gin_trgm_ops);
+create index if not exists idx_user_staff_code_trgm on users using gin (lower(staff_code) gin_trgm_ops);
@@ -0,0 +1,109 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.assigment.AssignmentResponseDto;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Assignment;
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.entities.ReturningRequest;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.enums.EAssignmentState;
+import com.nashtech.rookie.asset_management_0701.mappers.AssetMapperImpl;
+import com.nashtech.rookie.asset_management_0701.mappers.AssignmentMapper;
+import com.nashtech.rookie.asset_management_0701.mappers.AssignmentMapperImpl;
+import com.nashtech.rookie.asset_management_0701.mappers.LocationMapperImpl;
+import com.nashtech.rookie.asset_management_0701.mappers.UserMapperImpl;
+
+// mapping one page of the assignment list, with the joins the list fetches already loaded
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class AssignmentMapperBenchmark {
+    @Param({"20", "100", "10000"})
+    private int pageSize;
+
+    private AssignmentMapper assignmentMapper;
+
+    private List<Assignment> page;
+
+    @Setup
+    public void setUp() {
+        UserMapperImpl userMapper = new UserMapperImpl();
+        ReflectionTestUtils.setField(userMapper, "locationMapper", new LocationMapperImpl());
+        assignmentMapper = new AssignmentMapperImpl();
+        ReflectionTestUtils.setField(assignmentMapper, "assetMapper", new AssetMapperImpl());
+        ReflectionTestUtils.setField(assignmentMapper, "userMapper", userMapper);
+
+        Location location = Location.builder().id(1L).name("Ha Noi").code("HN0001").build();
+        Category category = Category.builder().id(1L).name("Laptop").code("LA").build();
+        User admin = User.builder().id(1L).username("admin").location(location).build();
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            User assignee = User.builder().id(i + 2L).username("user" + i).location(location).build();
+            Asset asset = Asset.builder()
+                    .id((long) i)
+                    .assetCode(String.format("LA%06d", i))
+                    .name("Laptop " + i)
+                    .specification("Core i7, 16GB RAM")
+                    .installDate(LocalDate.of(2024, 1, 1))
+                    .state(EAssetState.ASSIGNED)
+                    .category(category)
+                    .location(location)
+                    .build();
+            Assignment assignment = Assignment.builder()
+                    .id((long) i)
+                    .assignedDate(LocalDate.of(2024, 2, 1))
+                    .note("Assigned for the project")
+                    .state(EAssignmentState.ACCEPTED)
+                    .assignTo(assignee)
+                    .assignBy(admin)
+                    .asset(asset)
+                    .build();
+            // every other row already has a return requested, so both branches of the mapping run
+            if (i % 2 == 0) {
+                assignment.setReturningRequest(ReturningRequest.builder()
+                        .id((long) i)
+                        .returnDate(LocalDate.of(2024, 3, 1))
+                        .build());
+            }
+            page.add(assignment);
+        }
+    }
+
+    @Benchmark
+    public List<AssignmentResponseDto> toAssignmentResponseDto() {
+        return page.stream().map(assignmentMapper::toAssignmentResponseDto).toList();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AssignmentMapperBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,128 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nashtech.rookie.asset_management_0701.configs.security.JwtAuthenticationFilter;
+import com.nashtech.rookie.asset_management_0701.configs.security.JwtService;
+import com.nashtech.rookie.asset_management_0701.configs.security.TokenRevocationIndex;
+import com.nashtech.rookie.asset_management_0701.dtos.security.TokenClaims;
+import com.nashtech.rookie.asset_management_0701.dtos.security.UserSecurityData;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import com.nashtech.rookie.asset_management_0701.repositories.InvalidTokenRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.ServletException;
+
+// the work every authenticated request does before reaching a controller
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+    private static final String SECRET_KEY = "a0a5753ffe00e4a9862dd059182b5f759e946a11b8ed270eb603cd7313cbc717";
+
+    private JwtService jwtService;
+
+    private JwtAuthenticationFilter filter;
+
+    private MethodHandle extractAllClaims;
+
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        TokenRevocationIndex revocationIndex = new TokenRevocationIndex(
+                mock(InvalidTokenRepository.class), new ObjectMapper());
+        ReflectionTestUtils.setField(revocationIndex, "bucketWidthSeconds", 60L);
+
+        UserSecurityData securityData = UserSecurityData.builder()
+                .id(1L)
+                .locationId(1L)
+                .role(ERole.ADMIN)
+                .status(EUserStatus.ACTIVE)
+                .build();
+        // stands in for a hit on the userDisable cache, which is what a steady stream of requests sees
+        jwtService = new JwtService(revocationIndex, mock(UserRepository.class), new CaffeineCacheManager()) {
+            @Override
+            public UserSecurityData getSecurityData(String username) {
+                return securityData;
+            }
+        };
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaximumSize", 10000L);
+        jwtService.init();
+        filter = new JwtAuthenticationFilter(jwtService);
+
+        extractAllClaims = MethodHandles.privateLookupIn(JwtService.class, MethodHandles.lookup())
+                .findVirtual(JwtService.class, "extractAllClaims",
+                        MethodType.methodType(Claims.class, String.class));
+        token = jwtService.generateToken(User.builder()
+                .username("benchmark")
+                .role(ERole.ADMIN)
+                .status(EUserStatus.ACTIVE)
+                .build());
+    }
+
+    // the signature check a token costs on its first request
+    @Benchmark
+    public Object extractAllClaims() throws Throwable {
+        return extractAllClaims.invoke(jwtService, token);
+    }
+
+    // every later request for the same token
+    @Benchmark
+    public TokenClaims parseCachedToken() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public Object filterPass() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/assets");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        }
+        finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
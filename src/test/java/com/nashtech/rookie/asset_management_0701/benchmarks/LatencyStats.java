@@ -0,0 +1,28 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import java.time.Duration;
+import java.util.Collection;
+
+// successful request latencies of one load run, in nanoseconds
+record LatencyStats(long[] sortedLatencies, long errors, Duration duration) {
+    static LatencyStats of(Collection<Long> latencies, long errors, Duration duration) {
+        return new LatencyStats(latencies.stream().mapToLong(Long::longValue).sorted().toArray(), errors, duration);
+    }
+
+    long requests() {
+        return sortedLatencies.length;
+    }
+
+    double throughput() {
+        return (double) sortedLatencies.length / duration.toSeconds();
+    }
+
+    // nearest rank, in milliseconds
+    double percentile(int percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+}
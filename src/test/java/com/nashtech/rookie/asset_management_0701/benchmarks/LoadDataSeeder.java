@@ -0,0 +1,323 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.enums.EAssignmentReturnState;
+import com.nashtech.rookie.asset_management_0701.enums.EAssignmentState;
+import com.nashtech.rookie.asset_management_0701.enums.EGender;
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+
+// fills a migrated database through batched JDBC inserts, a fixed random seed makes every run produce the same
+// rows. ids are assigned here after the ones already present and the sequences moved past them afterwards.
+// the i-th user and asset belong to the ((i - 1) % locations + 1)-th location, whose first user is its admin
+public class LoadDataSeeder {
+    public static final String PASSWORD = "Load@1234";
+
+    private static final int BATCH_SIZE = 5000;
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String SEEDER = "seeder";
+
+    private static final String[] FIRST_NAMES = {"An", "Binh", "Chi", "Dung", "Giang", "Hoa", "Hung", "Khanh",
+        "Lan", "Long", "Minh", "Nam", "Ngoc", "Phuong", "Quan", "Son", "Thao", "Trang", "Tuan", "Vy"};
+
+    private static final String[] LAST_NAMES = {"Nguyen Van", "Tran Thi", "Le Minh", "Pham Duc", "Hoang Anh",
+        "Vu Thanh", "Dang Quoc", "Bui Thu", "Do Hai", "Ho Ngoc"};
+
+    private static final String[] MODELS = {"Pro", "Air", "Plus", "Max", "Lite", "Standard"};
+
+    // share of the assets in each state, in the order of EAssetState
+    private static final int[] ASSET_STATE_WEIGHTS = {35, 8, 45, 7, 5};
+
+    private static final EAssignmentState[] CURRENT_ASSIGNMENT_STATES =
+        {EAssignmentState.ACCEPTED, EAssignmentState.WAITING};
+
+    private static final EAssignmentState[] PAST_ASSIGNMENT_STATES =
+        {EAssignmentState.RETURNED, EAssignmentState.DECLINED};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Volumes volumes;
+
+    private final Random random = new Random(20240701);
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private final LocalDate today = now.toLocalDate();
+
+    // largest id of each table before seeding, the application may have created a few rows on its own
+    private long locationBase;
+
+    private long categoryBase;
+
+    private long userBase;
+
+    private long assetBase;
+
+    private long assignmentBase;
+
+    private long returningRequestBase;
+
+    private long counterBase;
+
+    public LoadDataSeeder(JdbcTemplate jdbcTemplate, Volumes volumes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.volumes = volumes;
+    }
+
+    public record Volumes(int locations, int categories, int users, int assets, int assignments) {
+        // every volume can be set on its own, load.scale shrinks the large ones for a quick local run
+        public static Volumes fromSystemProperties() {
+            double scale = Double.parseDouble(System.getProperty("load.scale", "1"));
+            int locations = Integer.getInteger("load.locations", 10);
+            return new Volumes(
+                    locations,
+                    Math.min(Integer.getInteger("load.categories", 200), 26 * 26),
+                    Math.max(scaled("load.users", 100_000, scale), locations * 2),
+                    scaled("load.assets", 1_000_000, scale),
+                    scaled("load.assignments", 5_000_000, scale));
+        }
+
+        private static int scaled(String property, int defaultVolume, double scale) {
+            return (int) Math.max(1, Integer.getInteger(property, defaultVolume) * scale);
+        }
+    }
+
+    public boolean isSeeded() {
+        return jdbcTemplate.queryForObject("select count(*) from locations where code like 'LT%'", Long.class) > 0;
+    }
+
+    public static String adminUsername(int location) {
+        return "admin" + location;
+    }
+
+    // the first staff user of the location, who holds assignments like everyone else
+    public static String staffUsername(int location, int locations) {
+        return "user" + (location + locations);
+    }
+
+    public void seed() {
+        locationBase = maxId("locations");
+        categoryBase = maxId("categories");
+        userBase = maxId("users");
+        assetBase = maxId("assets");
+        assignmentBase = maxId("assignments");
+        returningRequestBase = maxId("returning_requests");
+        counterBase = maxId("category_state_counters");
+        seedLocations();
+        seedCategories();
+        seedUsers();
+        long[][][] counters = seedAssetsAndAssignments();
+        seedCounters(counters);
+        restartSequences();
+    }
+
+    private void seedLocations() {
+        try (BatchInsert locations = new BatchInsert("insert into locations (id, code, name) values (?, ?, ?)")) {
+            for (int i = 1; i <= volumes.locations(); i++) {
+                locations.add(locationBase + i, String.format("LT%04d", i), "Location " + i);
+            }
+        }
+    }
+
+    private void seedCategories() {
+        // count_amount is filled once the assets are known
+        try (BatchInsert categories = new BatchInsert(
+                "insert into categories (id, code, name, count_amount) values (?, ?, ?, 0)")) {
+            for (int i = 1; i <= volumes.categories(); i++) {
+                categories.add(categoryBase + i, categoryCode(i), "Category " + i);
+            }
+        }
+    }
+
+    private void seedUsers() {
+        String hash = "{bcrypt}" + new BCryptPasswordEncoder().encode(PASSWORD);
+        try (BatchInsert users = new BatchInsert("insert into users (id, username, staff_code, first_name, " +
+                "last_name, search_name, hash_password, dob, join_date, gender, role, status, location_id, version, " +
+                "created_by, created_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)")) {
+            for (int i = 1; i <= volumes.users(); i++) {
+                boolean locationAdmin = i <= volumes.locations();
+                // the load suite signs in as these two, so they must not be drawn disabled
+                boolean locationStaff = !locationAdmin && i <= volumes.locations() * 2;
+                ERole role = locationAdmin || !locationStaff && random.nextInt(100) < 2 ? ERole.ADMIN : ERole.USER;
+                EUserStatus status = locationAdmin || locationStaff
+                        ? EUserStatus.ACTIVE
+                        : pick(EUserStatus.values(), 90, 7, 3);
+                String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                users.add(userBase + i, locationAdmin ? adminUsername(i) : "user" + i, String.format("SD%06d", i),
+                        firstName, lastName, (firstName + " " + lastName).toLowerCase(), hash,
+                        LocalDate.of(1970 + random.nextInt(30), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                        today.minusDays(random.nextInt(3650)), pick(EGender.values(), 50, 50).name(), role.name(),
+                        status.name(), locationBase + locationOf(i), SEEDER, now);
+            }
+        }
+    }
+
+    private long[][][] seedAssetsAndAssignments() {
+        long[][][] counters = new long[volumes.categories() + 1][volumes.locations() + 1][EAssetState.values().length];
+        long[] codeNumbers = new long[volumes.categories() + 1];
+        int perAsset = volumes.assignments() / volumes.assets();
+        int withExtra = volumes.assignments() % volumes.assets();
+        long assignmentId = assignmentBase;
+        long returningRequestId = returningRequestBase;
+
+        try (BatchInsert assets = new BatchInsert("insert into assets (id, asset_code, name, specification, " +
+                "install_date, state, category_id, location_id, version, created_by, created_date) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)");
+             BatchInsert assignments = new BatchInsert("insert into assignments (id, assigned_date, note, state, " +
+                "asset_id, assign_by_id, assign_to_id, created_by, created_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                assets);
+             BatchInsert returningRequests = new BatchInsert("insert into returning_requests (id, return_date, " +
+                "state, assignment_id, accepted_by_id, requested_by_id) values (?, ?, ?, ?, ?, ?)", assignments)) {
+            for (int i = 1; i <= volumes.assets(); i++) {
+                int category = 1 + random.nextInt(volumes.categories());
+                int location = locationOf(i);
+                EAssetState state = pick(EAssetState.values(), ASSET_STATE_WEIGHTS);
+                int history = perAsset + (i <= withExtra ? 1 : 0);
+                // the history ends today at the latest, one assignment every two months before that
+                LocalDate assignedDate = today.minusDays(history * 60L + random.nextInt(365));
+                long assetId = assetBase + i;
+                long locationId = locationBase + location;
+                assets.add(assetId, categoryCode(category) + String.format("%06d", ++codeNumbers[category]),
+                        "Category " + category + " " + MODELS[random.nextInt(MODELS.length)],
+                        "Seeded for load testing", assignedDate.minusDays(random.nextInt(30)), state.name(),
+                        categoryBase + category, locationId, SEEDER, now);
+                counters[category][location][state.ordinal()]++;
+
+                for (int j = 1; j <= history; j++) {
+                    EAssignmentState assignmentState = j == history && state == EAssetState.ASSIGNED
+                            ? pick(CURRENT_ASSIGNMENT_STATES, 80, 20)
+                            : pick(PAST_ASSIGNMENT_STATES, 85, 15);
+                    long assignee = userIn(location);
+                    // the location's admin assigns and accepts the returns
+                    long admin = userBase + location;
+                    assignments.add(++assignmentId, assignedDate, "Seeded assignment", assignmentState.name(),
+                            assetId, admin, assignee, SEEDER, now);
+
+                    if (assignmentState == EAssignmentState.RETURNED) {
+                        returningRequests.add(++returningRequestId, assignedDate.plusDays(30),
+                                EAssignmentReturnState.COMPLETED.name(), assignmentId, admin, assignee);
+                    }
+                    else if (assignmentState == EAssignmentState.ACCEPTED && random.nextInt(10) == 0) {
+                        returningRequests.add(++returningRequestId, null,
+                                EAssignmentReturnState.WAITING_FOR_RETURNING.name(), assignmentId, null, assignee);
+                    }
+                    assignedDate = assignedDate.plusDays(60);
+                }
+            }
+        }
+
+        // the next code of each category continues after the seeded ones
+        List<Object[]> amounts = new ArrayList<>();
+        for (int category = 1; category <= volumes.categories(); category++) {
+            amounts.add(new Object[] {codeNumbers[category], categoryBase + category});
+        }
+        jdbcTemplate.batchUpdate("update categories set count_amount = ? where id = ?", amounts);
+        return counters;
+    }
+
+    private void seedCounters(long[][][] counters) {
+        try (BatchInsert rows = new BatchInsert("insert into category_state_counters " +
+                "(id, category_id, location_id, state, amount) values (?, ?, ?, ?, ?)")) {
+            long id = counterBase;
+            for (int category = 1; category <= volumes.categories(); category++) {
+                for (int location = 1; location <= volumes.locations(); location++) {
+                    for (EAssetState state : EAssetState.values()) {
+                        rows.add(++id, categoryBase + category, locationBase + location, state.name(),
+                                counters[category][location][state.ordinal()]);
+                    }
+                }
+            }
+        }
+    }
+
+    // pooled ids are handed out up to the sequence value, so it must sit a whole block above the largest id
+    private void restartSequences() {
+        for (String table : List.of("assets", "assignments", "categories", "category_state_counters", "locations",
+                "returning_requests", "users")) {
+            long next = maxId(table) + ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("alter sequence " + table + "_seq restart with " + next);
+        }
+    }
+
+    private long maxId(String table) {
+        return jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+    }
+
+    private int locationOf(long id) {
+        return (int) ((id - 1) % volumes.locations()) + 1;
+    }
+
+    // a random user of the location, its users are every locations-th one starting at the location
+    private long userIn(int location) {
+        int usersInLocation = (volumes.users() - location) / volumes.locations() + 1;
+        return userBase + location + (long) volumes.locations() * random.nextInt(usersInLocation);
+    }
+
+    private static String categoryCode(int category) {
+        int index = category - 1;
+        return "" + (char) ('A' + index / 26) + (char) ('A' + index % 26);
+    }
+
+    private <T> T pick(T[] values, int... weights) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private final class BatchInsert implements AutoCloseable {
+        private final String sql;
+
+        // the table the rows reference, its pending rows go out first so the foreign keys hold
+        private final BatchInsert parent;
+
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        private BatchInsert(String sql) {
+            this(sql, null);
+        }
+
+        private BatchInsert(String sql, BatchInsert parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
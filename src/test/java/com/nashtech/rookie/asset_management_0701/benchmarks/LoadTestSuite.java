@@ -0,0 +1,193 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.nashtech.rookie.asset_management_0701.AssetManagement0701Application;
+import com.nashtech.rookie.asset_management_0701.configs.security.JwtService;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+
+// seeds a database once with LoadDataSeeder and drives the list and report endpoints with concurrent clients,
+// then prints throughput and p50/p95/p99 per endpoint. everything is set through system properties:
+//   load.datasource.url (and .username, .password, .driver)  an H2 file under target by default, seeded once
+//   load.scale, load.users, load.assets, ...                   the volumes, see LoadDataSeeder.Volumes
+//   load.clients, load.seconds, load.warmup-seconds            the load itself
+// run it with mvn -Pload test, or with the test classpath ahead of the main one so the test configuration is used
+public class LoadTestSuite {
+    // the mix a day of admin and staff traffic roughly follows, weights are relative
+    private static final List<Endpoint> ENDPOINTS = List.of(
+            new Endpoint("assets", "/api/v1/assets?states=AVAILABLE&states=NOT_AVAILABLE&states=ASSIGNED", false, 4),
+            new Endpoint("assets search", "/api/v1/assets?searchString=pro", false, 2),
+            new Endpoint("assets page 100", "/api/v1/assets?pageNumber=100", false, 1),
+            new Endpoint("assignments", "/api/v1/assignments?states=ACCEPTED&states=WAITING", false, 3),
+            new Endpoint("my assignments", "/api/v1/assignments/me", true, 3),
+            new Endpoint("returning requests", "/api/v1/returning-requests", false, 2),
+            new Endpoint("report", "/api/v1/reports?pageSize=20", false, 1));
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("load.clients", 50);
+        int seconds = Integer.getInteger("load.seconds", 60);
+        int warmupSeconds = Integer.getInteger("load.warmup-seconds", 15);
+        LoadDataSeeder.Volumes volumes = LoadDataSeeder.Volumes.fromSystemProperties();
+        String[] databaseArgs = databaseArgs();
+
+        seed(databaseArgs, volumes);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                AssetManagement0701Application.class)
+                .properties("server.port=0", "application.cache.bus=loopback")
+                .run(databaseArgs)) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            String adminToken = token(context, LoadDataSeeder.adminUsername(1));
+            String staffToken = token(context, LoadDataSeeder.staffUsername(1, volumes.locations()));
+            Map<Endpoint, HttpRequest> requests = new LinkedHashMap<>();
+            for (Endpoint endpoint : ENDPOINTS) {
+                requests.put(endpoint, HttpRequest.newBuilder(URI.create("http://localhost:" + port + endpoint.path()))
+                        .header("Authorization", "Bearer " + (endpoint.staff() ? staffToken : adminToken))
+                        .timeout(Duration.ofSeconds(60))
+                        .GET()
+                        .build());
+            }
+
+            // the warm-up loads the JIT, the connection pool and the count caches before anything is measured
+            drive(requests, clients, Duration.ofSeconds(warmupSeconds));
+            Map<Endpoint, LatencyStats> results = drive(requests, clients, Duration.ofSeconds(seconds));
+            print(results, volumes, clients, seconds);
+        }
+    }
+
+    // passed as arguments rather than default properties, so they win over the datasource in application.yml
+    private static String[] databaseArgs() {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.datasource.url=" + System.getProperty("load.datasource.url",
+                "jdbc:h2:file:./target/load-db/asset-management"));
+        addIfSet(args, "spring.datasource.username", "load.datasource.username");
+        addIfSet(args, "spring.datasource.password", "load.datasource.password");
+        addIfSet(args, "spring.datasource.driver-class-name", "load.datasource.driver");
+        return args.toArray(String[]::new);
+    }
+
+    private static void addIfSet(List<String> args, String property, String systemProperty) {
+        String value = System.getProperty(systemProperty);
+        if (value != null) {
+            args.add("--" + property + "=" + value);
+        }
+    }
+
+    // a context without the web server runs the migrations and the seeder, the suite then starts a fresh one
+    // so everything the application loads at startup sees the seeded rows
+    private static void seed(String[] databaseArgs, LoadDataSeeder.Volumes volumes) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                AssetManagement0701Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("application.cache.bus=loopback")
+                .run(databaseArgs)) {
+            LoadDataSeeder seeder = new LoadDataSeeder(context.getBean(JdbcTemplate.class), volumes);
+            if (seeder.isSeeded()) {
+                System.out.println("Database already seeded, reusing it");
+                return;
+            }
+            long start = System.nanoTime();
+            seeder.seed();
+            System.out.printf("Seeded %s in %ds%n", volumes, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+        }
+    }
+
+    private static String token(ConfigurableApplicationContext context, String username) {
+        return context.getBean(JwtService.class).generateToken(
+                context.getBean(UserRepository.class).findByUsername(username).orElseThrow());
+    }
+
+    private static Map<Endpoint, LatencyStats> drive(Map<Endpoint, HttpRequest> requests, int clients,
+                                                     Duration duration) throws InterruptedException {
+        List<Endpoint> weighted = new ArrayList<>();
+        Map<Endpoint, ConcurrentLinkedQueue<Long>> latencies = new LinkedHashMap<>();
+        Map<Endpoint, LongAdder> errors = new LinkedHashMap<>();
+        for (Endpoint endpoint : requests.keySet()) {
+            for (int i = 0; i < endpoint.weight(); i++) {
+                weighted.add(endpoint);
+            }
+            latencies.put(endpoint, new ConcurrentLinkedQueue<>());
+            errors.put(endpoint, new LongAdder());
+        }
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newHttpClient()) {
+            for (int i = 0; i < clients; i++) {
+                clientThreads.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Endpoint endpoint = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                        long start = System.nanoTime();
+                        try {
+                            int status = httpClient.send(requests.get(endpoint),
+                                    HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 200) {
+                                latencies.get(endpoint).add(System.nanoTime() - start);
+                            }
+                            else {
+                                errors.get(endpoint).increment();
+                            }
+                        }
+                        catch (IOException e) {
+                            errors.get(endpoint).increment();
+                        }
+                    }
+                    return null;
+                });
+            }
+            clientThreads.shutdown();
+            clientThreads.awaitTermination(duration.toSeconds() + 120, TimeUnit.SECONDS);
+        }
+
+        Map<Endpoint, LatencyStats> results = new LinkedHashMap<>();
+        latencies.forEach((endpoint, values) ->
+                results.put(endpoint, LatencyStats.of(values, errors.get(endpoint).sum(), duration)));
+        return results;
+    }
+
+    private static void print(Map<Endpoint, LatencyStats> results, LoadDataSeeder.Volumes volumes, int clients,
+                              int seconds) {
+        System.out.printf("%n%s, %d clients, %ds%n", volumes, clients, seconds);
+        System.out.printf("%-20s %9s %9s %7s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms");
+        List<Long> all = new ArrayList<>();
+        long allErrors = 0;
+        for (Map.Entry<Endpoint, LatencyStats> entry : results.entrySet()) {
+            LatencyStats stats = entry.getValue();
+            printRow(entry.getKey().name(), stats);
+            for (long latency : stats.sortedLatencies()) {
+                all.add(latency);
+            }
+            allErrors += stats.errors();
+        }
+        printRow("total", LatencyStats.of(all, allErrors, Duration.ofSeconds(seconds)));
+    }
+
+    private static void printRow(String name, LatencyStats stats) {
+        System.out.printf("%-20s %9d %9.1f %7d %9.1f %9.1f %9.1f%n", name, stats.requests(), stats.throughput(),
+                stats.errors(), stats.percentile(50), stats.percentile(95), stats.percentile(99));
+    }
+
+    private record Endpoint(String name, String path, boolean staff, int weight) {
+    }
+}
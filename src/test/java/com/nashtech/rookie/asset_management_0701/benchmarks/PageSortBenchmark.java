@@ -0,0 +1,67 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Pageable;
+
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.utils.PageSortUtil;
+
+// the paging parameters every list request parses, including the fallbacks for bad input
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PageSortBenchmark {
+    // fields rather than constants, so the JIT cannot fold the parsing away
+    private String pageNumber = "3";
+
+    private String invalidPageNumber = "three";
+
+    private String sortDir = "desc";
+
+    private String invalidSortDir = "sideways";
+
+    @Benchmark
+    public Pageable validRequest() {
+        return PageSortUtil.createPageRequest(PageSortUtil.parsePageValue(pageNumber, 1),
+                PageSortUtil.parsePageValue("20", 20), "fullName", PageSortUtil.parseSortDirection(sortDir),
+                "firstName");
+    }
+
+    @Benchmark
+    public int invalidPageValue() {
+        return PageSortUtil.parsePageValue(invalidPageNumber, 1);
+    }
+
+    @Benchmark
+    public Object invalidSortDirection() {
+        try {
+            return PageSortUtil.parseSortDirection(invalidSortDir);
+        }
+        catch (AppException e) {
+            return e;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PageSortBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
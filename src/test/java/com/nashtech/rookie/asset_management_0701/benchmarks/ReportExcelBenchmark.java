@@ -0,0 +1,72 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportUtil;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportUtilImpl;
+
+// the xlsx report download, written to a discarding stream so only the workbook is measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ReportExcelBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int rows;
+
+    private final ReportUtil reportUtil = new ReportUtilImpl();
+
+    private List<ReportResponse> responses;
+
+    @Setup
+    public void setUp() {
+        responses = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            responses.add(ReportResponse.builder()
+                    .categoryId((long) i)
+                    .categoryName("Category " + i)
+                    .locationId(1L)
+                    .locationName("Ha Noi")
+                    .total(50L)
+                    .assignedCount(20L)
+                    .availableCount(15L)
+                    .notAvailableCount(5L)
+                    .waitingForRecycleCount(6L)
+                    .recycledCount(4L)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void writeExcel() {
+        reportUtil.writeExcel(responses, OutputStream.nullOutputStream());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReportExcelBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
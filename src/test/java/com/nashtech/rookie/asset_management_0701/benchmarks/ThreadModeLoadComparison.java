@@ -0,0 +1,123 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.nashtech.rookie.asset_management_0701.AssetManagement0701Application;
+import com.nashtech.rookie.asset_management_0701.configs.security.JwtService;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+
+// starts the application once on platform threads and once on virtual threads and drives the same
+// authenticated endpoint with concurrent clients, args: clients seconds tomcat-max-threads path,
+// run with the test classpath ahead of the main one so the H2 configuration is picked up
+public class ThreadModeLoadComparison {
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int tomcatThreads = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        String path = args.length > 3 ? args[3] : "/api/v1/users?pageNumber=1&pageSize=20";
+
+        List<Result> results = new ArrayList<>();
+        for (boolean virtual : new boolean[] {false, true}) {
+            results.add(run(virtual, clients, seconds, tomcatThreads, path));
+        }
+
+        System.out.printf("%n%d clients, %ds, tomcat max threads %d, %s%n", clients, seconds, tomcatThreads, path);
+        System.out.printf("%-9s %10s %8s %9s %9s %9s%n", "mode", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms");
+        for (Result result : results) {
+            LatencyStats stats = result.stats();
+            System.out.printf("%-9s %10.1f %8d %9.1f %9.1f %9.1f%n", result.mode(), stats.throughput(),
+                    stats.errors(), stats.percentile(50), stats.percentile(95), stats.percentile(99));
+        }
+    }
+
+    private static Result run(boolean virtual, int clients, int seconds, int tomcatThreads, String path)
+            throws InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                AssetManagement0701Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "server.tomcat.threads.max=" + tomcatThreads,
+                        // a database per run so the second start does not see the first one's rows
+                        "spring.datasource.url=jdbc:h2:mem:load-" + virtual + ";DB_CLOSE_DELAY=-1",
+                        "application.cache.bus=loopback")
+                .run()) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            // the admin seeding runner only runs against Postgres, so the caller is created here
+            Location location = context.getBean(LocationRepository.class)
+                    .save(Location.builder().name("Load").code("LD0001").build());
+            User admin = context.getBean(UserRepository.class).save(User.builder()
+                    .username("loadadmin")
+                    .role(ERole.ADMIN)
+                    .status(EUserStatus.ACTIVE)
+                    .location(location)
+                    .build());
+            String token = context.getBean(JwtService.class).generateToken(admin);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+
+            // a short warm-up so both modes are measured with a loaded JIT and a filled connection pool
+            drive(request, clients, Duration.ofSeconds(Math.max(1, seconds / 4)));
+            return new Result(virtual ? "virtual" : "platform", drive(request, clients, Duration.ofSeconds(seconds)));
+        }
+    }
+
+    private static LatencyStats drive(HttpRequest request, int clients, Duration duration)
+            throws InterruptedException {
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+        // the clients run on virtual threads so the load generator is never the bottleneck
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newHttpClient()) {
+            for (int i = 0; i < clients; i++) {
+                clientThreads.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 200) {
+                                latencies.add(System.nanoTime() - start);
+                            }
+                            else {
+                                errors.increment();
+                            }
+                        }
+                        catch (IOException e) {
+                            errors.increment();
+                        }
+                    }
+                    return null;
+                });
+            }
+            clientThreads.shutdown();
+            clientThreads.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        return LatencyStats.of(latencies, errors.sum(), duration);
+    }
+
+    private record Result(String mode, LatencyStats stats) {
+    }
+}
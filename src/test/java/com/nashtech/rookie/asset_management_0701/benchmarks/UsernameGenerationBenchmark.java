@@ -0,0 +1,74 @@
+package com.nashtech.rookie.asset_management_0701.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.nashtech.rookie.asset_management_0701.dtos.requests.user.UserRequest;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.utils.user.UserUtil;
+import com.nashtech.rookie.asset_management_0701.utils.user.UserUtilImpl;
+
+// the max number scan generateUsername does over every user whose name starts with the new one,
+// the repository is a stub returning the colliding users so the query itself is not measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class UsernameGenerationBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int collisions;
+
+    private UserUtil userUtil;
+
+    private UserRequest request;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        List<User> users = new ArrayList<>(collisions);
+        users.add(User.builder().username("annv").build());
+        for (int i = 1; i < collisions; i++) {
+            users.add(User.builder().username("annv" + i).build());
+        }
+        UserRepository userRepository = mock(UserRepository.class);
+        given(userRepository.findAll(any(Specification.class))).willReturn(users);
+        userUtil = new UserUtilImpl(userRepository);
+        request = UserRequest.builder().firstName("An").lastName("Nguyen Van").build();
+    }
+
+    @Benchmark
+    public String generateUsername() {
+        return userUtil.generateUsername(request);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UsernameGenerationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.nashtech.rookie.asset_management_0701.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+// a database the app created with ddl-auto before the migrations, the context only starts when Flyway brings
+// it up to the entities, ddl-auto validate rejects anything the scripts missed
+@SpringBootTest
+class LegacySchemaMigrationTest {
+    private static final String URL = "jdbc:h2:mem:legacy;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "sa");
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/legacy/original_schema.sql"));
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void migrate_originalSchema_baselineAndApplyEveryScript() {
+            assertThat(flyway.info().pending()).isEmpty();
+            assertThat(Arrays.stream(flyway.info().applied()).map(MigrationInfo::getVersion).map(Object::toString))
+                    .startsWith("0", "1", "1.1", "1.2", "1.3");
+        }
+
+        @Test
+        void migrate_originalUsers_backfillSearchName() {
+            assertThat(jdbcTemplate.queryForObject("select search_name from users where username = 'legacyadmin'",
+                    String.class)).isEqualTo("legacy admin");
+        }
+
+        @Test
+        void migrate_originalAssets_seedReportCountersOnStartup() {
+            assertThat(jdbcTemplate.queryForObject("select amount from category_state_counters "
+                    + "where category_id = 1 and location_id = 1 and state = 'AVAILABLE'", Long.class))
+                    .isEqualTo(2L);
+        }
+    }
+}
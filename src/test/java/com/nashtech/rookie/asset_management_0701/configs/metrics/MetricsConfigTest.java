@@ -0,0 +1,111 @@
+package com.nashtech.rookie.asset_management_0701.configs.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.ECountMode;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetSpecification;
+import com.nashtech.rookie.asset_management_0701.services.count.CountKey;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "management.endpoints.web.exposure.include=health,prometheus",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "application.metrics.slow-query-threshold=0"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ExtendWith(OutputCaptureExtension.class)
+class MetricsConfigTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PageCountService pageCountService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Nested
+    class HappyCase {
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void request_countsItsStatements_perEndpoint() throws Exception {
+            mockMvc.perform(get("/api/v1/locations")).andExpect(status().isOk());
+
+            DistributionSummary statements = meterRegistry.find("hibernate.statements.per.request")
+                    .tag("uri", "/api/v1/locations")
+                    .summary();
+            assertThat(statements).isNotNull();
+            assertThat(statements.totalAmount()).isPositive();
+            assertThat(meterRegistry.find("spring.data.repository.invocations")
+                    .tag("repository", "LocationRepository")
+                    .timer()).isNotNull();
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void prometheus_scrapedByAdmin_exposesApplicationMeters() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds")))
+                    .andExpect(content().string(containsString("cache_gets_total{cache=\"jwtClaims\"")))
+                    .andExpect(content().string(containsString("hibernate_statements_total")))
+                    .andExpect(content().string(containsString("jwt_revocation_tokens")));
+        }
+
+        @Test
+        void findPage_aboveThreshold_logsTheFilter(CapturedOutput output) {
+            Location location = locationRepository.save(Location.builder().name("Slow").code("SL0001").build());
+
+            pageCountService.findPage(assetRepository, AssetSpecification.hasLocation(location),
+                    PageRequest.of(0, 20, Sort.by("assetCode")), ECountMode.EXACT,
+                    CountKey.of(Asset.class, location.getId(), "laptop"));
+
+            assertThat(output).contains("Slow list query on Asset")
+                    .contains("location " + location.getId() + ", filter [laptop], page 0, size 20");
+        }
+    }
+
+    @Nested
+    class UnHappyCase {
+        @Test
+        void prometheus_scrapedWithoutToken_isUnauthorized() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @WithMockUser(roles = "USER")
+        void prometheus_scrapedByUser_isForbidden() throws Exception {
+            mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.nashtech.rookie.asset_management_0701.configs.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.nashtech.rookie.asset_management_0701.dtos.security.TokenClaims;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+class JwtServiceTest {
+    private CaffeineCacheManager cacheManager;
+
+    private JwtService jwtService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        jwtService = new JwtService(mock(TokenRevocationIndex.class), mock(UserRepository.class), cacheManager);
+        ReflectionTestUtils.setField(jwtService, "secretKey",
+                "a0a5753ffe00e4a9862dd059182b5f759e946a11b8ed270eb603cd7313cbc717");
+        ReflectionTestUtils.setField(jwtService, "expiration", 3600L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaximumSize", 100L);
+        jwtService.init();
+        token = jwtService.generateToken(User.builder()
+                .username("admin")
+                .status(EUserStatus.ACTIVE)
+                .role(ERole.ADMIN)
+                .build());
+    }
+
+    private Cache<Object, Object> claimsCache() {
+        return ((CaffeineCache) cacheManager.getCache(JwtService.CLAIMS_CACHE)).getNativeCache();
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void parseToken_sameTokenTwice_verifyOnceAndReuseClaims() {
+            TokenClaims first = jwtService.parseToken(token);
+            TokenClaims second = jwtService.parseToken(token);
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.username()).isEqualTo("admin");
+            assertThat(first.status()).isEqualTo(EUserStatus.ACTIVE);
+            assertThat(first.role()).isEqualTo(ERole.ADMIN);
+            assertThat(first.idToken()).isNotBlank();
+            assertThat(claimsCache().stats().hitCount()).isEqualTo(1);
+            assertThat(claimsCache().stats().missCount()).isEqualTo(1);
+        }
+
+        @Test
+        void parseToken_cachedEntry_expireWithToken() {
+            jwtService.parseToken(token);
+
+            assertThat(claimsCache().policy().expireVariably().orElseThrow()
+                    .getExpiresAfter(claimsCache().asMap().keySet().iterator().next()).orElseThrow())
+                    .isPositive()
+                    .isLessThanOrEqualTo(Duration.ofSeconds(3600));
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void parseToken_tamperedSignature_throwAndCacheNothing() {
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+            assertThatThrownBy(() -> jwtService.parseToken(tampered)).isInstanceOf(SignatureException.class);
+            assertThat(claimsCache().estimatedSize()).isZero();
+        }
+    }
+}
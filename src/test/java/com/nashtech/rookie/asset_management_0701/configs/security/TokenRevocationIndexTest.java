@@ -0,0 +1,92 @@
+package com.nashtech.rookie.asset_management_0701.configs.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nashtech.rookie.asset_management_0701.entities.InvalidToken;
+import com.nashtech.rookie.asset_management_0701.repositories.InvalidTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+class TokenRevocationIndexTest {
+    private InvalidTokenRepository invalidTokenRepository;
+
+    private TokenRevocationIndex revocationIndex;
+
+    private Instant expiry;
+
+    @BeforeEach
+    void setUp() {
+        invalidTokenRepository = mock(InvalidTokenRepository.class);
+        revocationIndex = new TokenRevocationIndex(invalidTokenRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(revocationIndex, "bucketWidthSeconds", 60L);
+        expiry = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void isRevoked_revokedToken_returnTrueOnlyForIt() {
+            revocationIndex.revoke("jti-1", expiry);
+
+            assertThat(revocationIndex.isRevoked("jti-1", expiry)).isTrue();
+            assertThat(revocationIndex.isRevoked("jti-2", expiry)).isFalse();
+            assertThat(revocationIndex.isRevoked("jti-1", expiry.plus(1, ChronoUnit.HOURS))).isFalse();
+        }
+
+        @Test
+        void purgeExpired_bucketPassed_dropWholeBucket() throws InterruptedException {
+            ReflectionTestUtils.setField(revocationIndex, "bucketWidthSeconds", 1L);
+            Instant soon = Instant.now().plusMillis(100);
+            revocationIndex.revoke("jti-1", soon);
+            revocationIndex.revoke("jti-2", soon);
+            revocationIndex.revoke("jti-3", expiry);
+
+            Thread.sleep(1100);
+            revocationIndex.purgeExpired();
+
+            assertThat(revocationIndex.size()).isEqualTo(1);
+            assertThat(revocationIndex.isRevoked("jti-1", soon)).isFalse();
+            assertThat(revocationIndex.isRevoked("jti-3", expiry)).isTrue();
+        }
+
+        @Test
+        void warmUp_storedTokens_loadTheirIds() {
+            String legacyToken = encode("{\"alg\":\"HS256\"}") + "." + encode("{\"jti\":\"legacy\"}") + ".signature";
+            when(invalidTokenRepository.findByExpiryDateAfter(any())).thenReturn(List.of(
+                    new InvalidToken("jti-1", expiry, null),
+                    new InvalidToken(legacyToken, expiry, null)));
+
+            revocationIndex.warmUp();
+
+            assertThat(revocationIndex.isRevoked("jti-1", expiry)).isTrue();
+            assertThat(revocationIndex.isRevoked("legacy", expiry)).isTrue();
+            assertThat(revocationIndex.size()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void revoke_expiredToken_notStored() {
+            revocationIndex.revoke("jti-1", Instant.now().minusSeconds(1));
+
+            assertThat(revocationIndex.size()).isZero();
+        }
+    }
+}
@@ -4,7 +4,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -12,9 +14,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetBatchCreateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetUpdateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.entities.Asset;
@@ -32,12 +37,15 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetCreateDto;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
 import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetBatchService;
 import com.nashtech.rookie.asset_management_0701.services.asset.AssetService;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
@@ -51,6 +59,9 @@ class AssetControllerTest {
     @MockBean
     private AssetService assetService;
 
+    @MockBean
+    private AssetBatchService assetBatchService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -109,6 +120,26 @@ class AssetControllerTest {
 
     @Nested
     class HappyCase {
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void givenCsvFormat_whenExportAssets_thenStreamCsvFile() throws Exception {
+            byte[] content = "id,assetCode\r\n".getBytes();
+            doAnswer(invocation -> {
+                invocation.getArgument(1, OutputStream.class).write(content);
+                return null;
+            }).when(assetService).exportAssets(eq(EExportFormat.CSV), any(OutputStream.class));
+
+            MvcResult mvcResult = mockMvc.perform(get("/api/v1/assets/export").param("format", "csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("text/csv"))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=assets.csv"))
+                    .andExpect(content().bytes(content));
+        }
+
         @Test
         @WithMockUser(roles = "ADMIN")
         void givenAssetCreateDto_whenCreateAsset_thenReturnCreatedAsset() throws Exception {
@@ -132,6 +163,22 @@ class AssetControllerTest {
                     .andExpect(jsonPath("$.result.assetCode").value(assetResponseDto.getAssetCode()));
         }
 
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void createAssets_validBatch_returnCreatedAssets() throws Exception {
+            given(assetBatchService.createAssets(any(AssetBatchCreateDto.class)))
+                    .willReturn(List.of(assetResponseDto, assetResponseDto));
+
+            mockMvc.perform(post("/api/v1/assets/batch")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new AssetBatchCreateDto(List.of(assetCreateDto, assetCreateDto)))))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.result", hasSize(2)))
+                    .andExpect(jsonPath("$.result[0].assetCode").value(assetResponseDto.getAssetCode()));
+        }
+
         @Test
         @WithMockUser(roles = "ADMIN")
         void getAllAsset_validRequest_returnAssetPagination() throws Exception {
@@ -210,6 +257,32 @@ class AssetControllerTest {
     @Nested
     class UnHappyCase {
 
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void createAssets_emptyBatch_returnBadRequest() throws Exception {
+            mockMvc.perform(post("/api/v1/assets/batch")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new AssetBatchCreateDto(List.of()))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.internalCode")
+                            .value(ErrorCode.ASSET_BATCH_SIZE_OUT_OF_RANGE.getInternalCode()))
+                    .andExpect(jsonPath("$.message").value("A batch must contain between 1 and 500 assets"));
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void createAssets_invalidItem_returnBadRequest() throws Exception {
+            assetCreateDto.setName(null);
+
+            mockMvc.perform(post("/api/v1/assets/batch")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new AssetBatchCreateDto(List.of(assetCreateDto)))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.internalCode").value(ErrorCode.FIELD_NOT_NULL.getInternalCode()));
+        }
+
         @Test
         @WithMockUser(roles="ADMIN")
         void updateAsset_AssetNotFound() throws Exception {
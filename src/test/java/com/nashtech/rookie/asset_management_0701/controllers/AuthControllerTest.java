@@ -1,10 +1,14 @@
 package com.nashtech.rookie.asset_management_0701.controllers;
 
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,11 +18,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.auth.AuthenticationRequest;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.AuthenticationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.user.UserResponse;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.services.auth.AuthenticationServiceImpl;
 
 import lombok.extern.slf4j.Slf4j;
@@ -59,16 +66,31 @@ public class AuthControllerTest {
     class HappyCase {
         @Test
         void testLogin () throws Exception {
-            when(authenticationService.login(authenticationRequest)).thenReturn(authenticationResponse);
-            mockMvc.perform(post("/api/v1/auth/login")
+            when(authenticationService.login(authenticationRequest))
+                    .thenReturn(CompletableFuture.completedFuture(authenticationResponse));
+            MvcResult mvcResult = mockMvc.perform(post("/api/v1/auth/login")
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(authenticationRequest)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.result.user.firstName").value("Khoa"))
                     .andExpect(jsonPath("$.result.user.lastName").value("Do"))
                     .andExpect(jsonPath("$.result.token").value("token"));
         }
 
+        @Test
+        void testLogin_hashingPoolFull_returnTooManyRequests () throws Exception {
+            when(authenticationService.login(authenticationRequest))
+                    .thenThrow(new AppException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS));
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(authenticationRequest)))
+                    .andExpect(status().isTooManyRequests());
+        }
+
 //        @Test
 //        @WithMockUser // Simulate a logged-in user
 //        public void testLogout () throws Exception {
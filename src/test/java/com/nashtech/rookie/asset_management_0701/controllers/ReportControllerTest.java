@@ -3,28 +3,41 @@ package com.nashtech.rookie.asset_management_0701.controllers;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.report.ReportExportJobResponse;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.enums.EExportJobStatus;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportExportJob;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportExportService;
 import com.nashtech.rookie.asset_management_0701.services.report.ReportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -40,6 +53,9 @@ class ReportControllerTest {
     @MockBean
     private ReportService reportService;
 
+    @MockBean
+    private ReportExportService reportExportService;
+
     private ReportResponse reportResponse;
 
     @BeforeEach
@@ -67,7 +83,7 @@ class ReportControllerTest {
                 .data(Collections.singletonList(reportResponse))
                 .build();
 
-        when(reportService.getReport(any(),any(),any(),any())).thenReturn(response);
+        when(reportService.getReport(any(),any(),any(),any(),any())).thenReturn(response);
 
         // When Then
         mockMvc.perform(get("/api/v1/reports")
@@ -85,13 +101,107 @@ class ReportControllerTest {
     void exportReport_validRequest_success() throws Exception {
         // Given
         byte[] mockContent = "Test content".getBytes();
-        Resource mockResource = new ByteArrayResource(mockContent);
 
-        when(reportService.exportReport(any(), any())).thenReturn(mockResource);
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write(mockContent);
+            return null;
+        }).when(reportService).exportReport(any(), any(), any(), any(), any());
 
         // When Then
-        mockMvc.perform(get("/api/v1/reports/export")
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/reports/export")
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=report.xlsx"))
+                .andExpect(content().bytes(mockContent));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void exportReport_csvFormat_returnCsv() throws Exception {
+        // Given
+        byte[] mockContent = "categoryId\n1\n".getBytes();
+
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write(mockContent);
+            return null;
+        }).when(reportService).exportReport(any(), any(), any(), eq(EExportFormat.CSV), any());
+
+        // When Then
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/reports/export")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=report.csv"))
+                .andExpect(content().bytes(mockContent));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void exportReport_unsupportedFormat_returnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/reports/export")
+                        .param("format", "pdf"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void submitExport_validRequest_returnAccepted() throws Exception {
+        // Given
+        ReportExportJobResponse job = ReportExportJobResponse.builder()
+                .jobId("job-1")
+                .status(EExportJobStatus.PENDING)
+                .build();
+        when(reportExportService.submitExport("name", "desc", true, EExportFormat.XLSX)).thenReturn(job);
+
+        // When Then
+        mockMvc.perform(post("/api/v1/reports/exports")
+                        .param("orderBy", "name")
+                        .param("sortDir", "desc")
+                        .param("allLocations", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.result.jobId").value("job-1"))
+                .andExpect(jsonPath("$.result.status").value("PENDING"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void getExport_validJob_returnStatus() throws Exception {
+        // Given
+        ReportExportJobResponse job = ReportExportJobResponse.builder()
+                .jobId("job-1")
+                .status(EExportJobStatus.RUNNING)
+                .build();
+        when(reportExportService.getExport("job-1")).thenReturn(job);
+
+        // When Then
+        mockMvc.perform(get("/api/v1/reports/exports/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.status").value("RUNNING"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void downloadExport_completedJob_returnFile(@TempDir Path tempDir) throws Exception {
+        // Given
+        byte[] mockContent = "Test content".getBytes();
+        Path file = Files.write(tempDir.resolve("job-1.xlsx"), mockContent);
+        ReportExportJob job = ReportExportJob.builder()
+                .id("job-1")
+                .format(EExportFormat.XLSX)
+                .build();
+        job.setFile(file);
+        when(reportExportService.getCompletedExport("job-1")).thenReturn(job);
+
+        // When Then
+        mockMvc.perform(get("/api/v1/reports/exports/job-1/download"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
                 .andExpect(header().string("Content-Disposition", "attachment; filename=report.xlsx"))
@@ -0,0 +1,62 @@
+package com.nashtech.rookie.asset_management_0701.controllers;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.SuggestionResponse;
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+import com.nashtech.rookie.asset_management_0701.services.search.SuggestService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SearchControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SuggestService suggestService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void suggest_validType_returnSuggestions() throws Exception {
+        given(suggestService.suggest(ESuggestType.ASSET, "lap", 5)).willReturn(List.of(
+                SuggestionResponse.builder().id(1L).code("LA000001").label("Laptop Dell").build()));
+
+        mockMvc.perform(get("/api/v1/search/suggest")
+                        .param("type", "asset")
+                        .param("query", "lap")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result[0].code").value("LA000001"))
+                .andExpect(jsonPath("$.result[0].label").value("Laptop Dell"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void suggest_unknownType_returnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/search/suggest")
+                        .param("type", "category")
+                        .param("query", "lap"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "STAFF")
+    void suggest_staffUser_returnForbidden() throws Exception {
+        mockMvc.perform(get("/api/v1/search/suggest")
+                        .param("type", "asset")
+                        .param("query", "lap"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,141 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetBatchCreateDto;
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetCreateDto;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetBatchService;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// not transactional, codes are reserved in their own transactions and must see the committed categories
+@SpringBootTest
+class AssetBatchServiceImplTest {
+    @Autowired
+    private AssetBatchService assetBatchService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private ReportCounterService reportCounterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AuthUtil authUtil;
+
+    private Category laptop;
+
+    private Category monitor;
+
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        location = locationRepository.save(Location.builder().name("Batch").code("BA0001").build());
+        given(authUtil.getCurrentLocation()).willReturn(location);
+        laptop = categoryRepository.save(Category.builder().name("Batch laptop").code("BL").countAmount(3L).build());
+        monitor = categoryRepository.save(Category.builder().name("Batch monitor").code("BM").countAmount(0L).build());
+        reportCounterService.initCounters(laptop);
+        reportCounterService.initCounters(monitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Category category : List.of(laptop, monitor)) {
+            jdbcTemplate.update("delete from category_state_counters where category_id = ?", category.getId());
+            jdbcTemplate.update("delete from assets where category_id = ?", category.getId());
+            categoryRepository.delete(category);
+        }
+        locationRepository.delete(location);
+    }
+
+    private AssetCreateDto request(String category) {
+        return AssetCreateDto.builder()
+                .name("Delivered")
+                .specification("Specification")
+                .installDate(LocalDate.now())
+                .state(EAssetState.AVAILABLE)
+                .category(category)
+                .build();
+    }
+
+    private Long counterAmount(Category category) {
+        return jdbcTemplate.queryForObject("select amount from category_state_counters " +
+                "where category_id = ? and state = ?", Long.class, category.getId(), EAssetState.AVAILABLE.name());
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void createAssets_mixedCategories_continueEachCategoryRange() {
+            List<AssetResponseDto> created = assetBatchService.createAssets(new AssetBatchCreateDto(List.of(
+                    request("Batch laptop"), request("Batch monitor"), request("Batch laptop"),
+                    request("Batch laptop"))));
+
+            assertThat(created).extracting(AssetResponseDto::getAssetCode)
+                    .containsExactly("BL000004", "BM000001", "BL000005", "BL000006");
+            assertThat(created).extracting(AssetResponseDto::getId).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(categoryRepository.findCountAmount(laptop.getId())).isGreaterThanOrEqualTo(6L);
+            assertThat(categoryRepository.findCountAmount(monitor.getId())).isGreaterThanOrEqualTo(1L);
+        }
+
+        @Test
+        void createAssets_validBatch_addToStateCounters() {
+            assetBatchService.createAssets(new AssetBatchCreateDto(List.of(
+                    request("Batch laptop"), request("Batch laptop"), request("Batch monitor"))));
+
+            assertThat(counterAmount(laptop)).isEqualTo(2L);
+            assertThat(counterAmount(monitor)).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void createAssets_unknownCategory_throwCategoryNotFoundWithoutReserving() {
+            AssetBatchCreateDto batch = new AssetBatchCreateDto(List.of(request("Batch laptop"), request("Missing")));
+
+            assertThatThrownBy(() -> assetBatchService.createAssets(batch))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NOT_FOUND);
+            assertThat(categoryRepository.findCountAmount(laptop.getId())).isEqualTo(3L);
+        }
+
+        @Test
+        void createAssets_installDateTooOld_throwInstallDateTooOld() {
+            AssetCreateDto old = request("Batch laptop");
+            old.setInstallDate(LocalDate.now().minusMonths(4));
+
+            assertThatThrownBy(() -> assetBatchService.createAssets(new AssetBatchCreateDto(List.of(old))))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_INSTALLED_DATE_TOO_OLD);
+        }
+    }
+}
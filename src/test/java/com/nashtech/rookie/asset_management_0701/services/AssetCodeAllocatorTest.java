@@ -0,0 +1,263 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetBatchCreateDto;
+import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetCreateDto;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetBatchService;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetCodeAllocator;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetService;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// not transactional, the allocator reserves in its own transactions and the threads need committed rows.
+// the pool is smaller than the number of threads, so a create that held a connection while it waited
+// on another create's reservation would starve that reservation and time out. single creates share blocks
+// here, by default each of them reserves its own number
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.maximum-pool-size=2",
+    "spring.datasource.hikari.connection-timeout=2000",
+    "application.asset.code.block-size=5"
+})
+class AssetCodeAllocatorTest {
+    private static final int THREADS = 8;
+
+    private static final int CALLS_PER_THREAD = 60;
+
+    @Autowired
+    private AssetCodeAllocator assetCodeAllocator;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetBatchService assetBatchService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReportCounterService reportCounterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AuthUtil authUtil;
+
+    private Category category;
+
+    private Location location;
+
+    @BeforeEach
+    void setUp() {
+        location = locationRepository.save(Location.builder().name("Allocation").code("AL0001").build());
+        given(authUtil.getCurrentLocation()).willReturn(location);
+        category = categoryRepository.save(Category.builder().name("Allocated").code("AC").countAmount(0L).build());
+        // as creating a category does, otherwise the parallel creates race to fill the counters in
+        reportCounterService.initCounters(category);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from category_state_counters where category_id = ?", category.getId());
+        jdbcTemplate.update("delete from assets where category_id = ?", category.getId());
+        categoryRepository.delete(category);
+        locationRepository.delete(location);
+    }
+
+    // every task starts at once so the threads really contend for the same block
+    private <T> List<T> runConcurrently(List<Callable<List<T>>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<T>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(tasks.size())) {
+            for (Callable<List<T>> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+        }
+        List<T> results = new ArrayList<>();
+        for (Future<List<T>> future : futures) {
+            results.addAll(future.get());
+        }
+        return results;
+    }
+
+    private AssetCreateDto request() {
+        return AssetCreateDto.builder()
+                .name("Parallel")
+                .specification("Specification")
+                .installDate(LocalDate.now())
+                .state(EAssetState.AVAILABLE)
+                .category(category.getName())
+                .build();
+    }
+
+    private Callable<List<Long>> allocations(AssetCodeAllocator allocator, long amount) {
+        return () -> {
+            List<Long> numbers = new ArrayList<>();
+            for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                long first = allocator.allocate(category.getId(), amount);
+                for (long number = first; number < first + amount; number++) {
+                    numbers.add(number);
+                }
+            }
+            return numbers;
+        };
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void allocate_parallelCallers_neverHandOutANumberTwice() throws Exception {
+            List<Callable<List<Long>>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                // single creates, small batches and batches larger than a block interleave
+                tasks.add(allocations(assetCodeAllocator, i % 4 == 3 ? 25 : i % 2 + 1));
+            }
+
+            List<Long> numbers = runConcurrently(tasks);
+
+            assertThat(numbers).doesNotHaveDuplicates().allMatch(number -> number > 0);
+            assertThat(categoryRepository.findCountAmount(category.getId()))
+                    .isGreaterThanOrEqualTo(numbers.stream().mapToLong(Long::longValue).max().orElseThrow());
+        }
+
+        @Test
+        void allocate_twoNodes_neverHandOutANumberTwice() throws Exception {
+            AssetCodeAllocator otherNode = new AssetCodeAllocator(categoryRepository, transactionManager);
+            ReflectionTestUtils.setField(otherNode, "blockSize", 7L);
+            List<Callable<List<Long>>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                tasks.add(allocations(i % 2 == 0 ? assetCodeAllocator : otherNode, 1));
+            }
+
+            List<Long> numbers = runConcurrently(tasks);
+
+            assertThat(numbers).hasSize(THREADS * CALLS_PER_THREAD).doesNotHaveDuplicates();
+        }
+
+        @Test
+        void createAsset_parallelCreatesInOneCategory_produceUniqueCodes() throws Exception {
+            List<Callable<List<String>>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                tasks.add(() -> {
+                    List<String> codes = new ArrayList<>();
+                    for (int j = 0; j < 10; j++) {
+                        codes.add(assetService.createAsset(request()).getAssetCode());
+                    }
+                    return codes;
+                });
+            }
+
+            List<String> codes = runConcurrently(tasks);
+
+            assertThat(codes).hasSize(THREADS * 10).doesNotHaveDuplicates().allMatch(code -> code.startsWith("AC"));
+            assertThat(jdbcTemplate.queryForObject("select count(distinct asset_code) from assets where category_id = ?",
+                    Long.class, category.getId())).isEqualTo(THREADS * 10L);
+        }
+
+        @Test
+        void createAssets_parallelBatchesAndCreates_produceUniqueCodes() throws Exception {
+            List<Callable<List<String>>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                // batches of 25 reserve a range of their own, the single creates share blocks
+                int size = i % 2 == 0 ? 1 : 25;
+                tasks.add(() -> {
+                    List<String> codes = new ArrayList<>();
+                    for (int j = 0; j < 4; j++) {
+                        List<AssetCreateDto> requests = new ArrayList<>();
+                        for (int k = 0; k < size; k++) {
+                            requests.add(request());
+                        }
+                        assetBatchService.createAssets(new AssetBatchCreateDto(requests)).stream()
+                                .map(AssetResponseDto::getAssetCode)
+                                .forEach(codes::add);
+                    }
+                    return codes;
+                });
+            }
+
+            List<String> codes = runConcurrently(tasks);
+
+            assertThat(codes).hasSize(THREADS / 2 * 4 * 26).doesNotHaveDuplicates();
+        }
+
+        @Test
+        void allocate_blockPastLastCode_handOutTheNumbersLeft() {
+            jdbcTemplate.update("update categories set count_amount = ? where id = ?", 999_997L, category.getId());
+
+            assertThat(assetCodeAllocator.allocate(category.getId(), 1)).isEqualTo(999_998L);
+            assertThat(assetCodeAllocator.allocate(category.getId(), 1)).isEqualTo(999_999L);
+            assertThat(categoryRepository.findCountAmount(category.getId())).isEqualTo(999_999L);
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void allocate_unknownCategory_throwCategoryNotFound() {
+            assertThatThrownBy(() -> assetCodeAllocator.allocate(-1L, 1))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CATEGORY_NOT_FOUND);
+        }
+
+        @Test
+        void allocate_pastLastCode_throwAssetCodeExhausted() {
+            jdbcTemplate.update("update categories set count_amount = ? where id = ?", 999_990L, category.getId());
+
+            assertThatThrownBy(() -> assetCodeAllocator.allocate(category.getId(), 10))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ASSET_CODE_EXHAUSTED);
+            assertThat(categoryRepository.findCountAmount(category.getId())).isEqualTo(999_990L);
+        }
+
+        @Test
+        void allocate_insideATransaction_throwIllegalState() {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+            assertThatThrownBy(() -> transaction.executeWithoutResult(status ->
+                    assetCodeAllocator.allocate(category.getId(), 1)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
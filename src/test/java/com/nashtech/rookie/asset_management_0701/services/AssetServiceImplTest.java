@@ -13,11 +13,14 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import com.nashtech.rookie.asset_management_0701.dtos.filters.AssetFilter;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
@@ -32,21 +35,30 @@ import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import com.nashtech.rookie.asset_management_0701.dtos.requests.asset.AssetCreateDto;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetExportRow;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.asset.AssetResponseDto;
 import com.nashtech.rookie.asset_management_0701.entities.Asset;
 import com.nashtech.rookie.asset_management_0701.entities.Category;
 import com.nashtech.rookie.asset_management_0701.entities.Location;
 import com.nashtech.rookie.asset_management_0701.entities.User;
 import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.mappers.AssetMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetCodeAllocator;
 import com.nashtech.rookie.asset_management_0701.services.asset.AssetServiceImpl;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
+import com.nashtech.rookie.asset_management_0701.utils.report.CsvReportWriter;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportWriterResolver;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @SpringBootTest
 class AssetServiceImplTest {
@@ -66,6 +78,21 @@ class AssetServiceImplTest {
     @Mock
     private AuthUtil authUtil;
 
+    @Mock
+    private ReportCounterService reportCounterService;
+
+    @Mock
+    private ReportWriterResolver reportWriterResolver;
+
+    @Mock
+    private PageCountService pageCountService;
+
+    @Mock
+    private AssetCodeAllocator assetCodeAllocator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private AssetServiceImpl assetService;
 
@@ -79,6 +106,9 @@ class AssetServiceImplTest {
 
     @BeforeEach
     void setUp () {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
         Location location = Location.builder()
                 .id(1L)
                 .name("Ha Noi").build();
@@ -148,10 +178,11 @@ class AssetServiceImplTest {
         @WithMockUser(username = "username", roles = "ADMIN")
         void testAssetCreateDto_whenCreateAsset_returnCreateOk() {
             // Given
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocation()).willReturn(user.getLocation());
             given(categoryRepository.findByName(anyString())).willReturn(Optional.of(category));
             given(assetMapper.toAsset(any(AssetCreateDto.class))).willReturn(asset);
             given(assetRepository.countByAssetCodeStartingWith(anyString())).willReturn(0L);
+            given(assetCodeAllocator.allocate(category.getId(), 1L)).willReturn(7L);
             given(assetRepository.save(any(Asset.class))).willReturn(asset);
             given(assetMapper.toAssetResponseDto(any(Asset.class))).willReturn(assetResponseDto);
 
@@ -159,17 +190,39 @@ class AssetServiceImplTest {
             AssetResponseDto result = assetService.createAsset(assetCreateDto);
 
             // Then
-            verify(authUtil).getCurrentUser();
+            verify(authUtil).getCurrentLocation();
             verify(categoryRepository).findByName("Laptop");
             verify(assetRepository).save(asset);
+            assertEquals("LP000007", asset.getAssetCode());
+            verify(reportCounterService).applyTransition(asset, null, asset.getState());
             assertEquals(assetResponseDto, result);
         }
 
+        @Test
+        @WithMockUser(username = "username", roles = "ADMIN")
+        void testExportAssets_csvFormat_writeInventoryOfCurrentLocation () {
+            // Given
+            AssetExportRow row = new AssetExportRow(1L, "LP000001", "Asset, 15\"", "Laptop",
+                    EAssetState.AVAILABLE, LocalDate.of(2024, 1, 2), "Ha Noi", null);
+            given(authUtil.getCurrentLocationId()).willReturn(user.getLocation().getId());
+            given(reportWriterResolver.getWriter(EExportFormat.CSV)).willReturn(new CsvReportWriter());
+            given(assetRepository.streamInventory(1L)).willReturn(Stream.of(row));
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // When
+            assetService.exportAssets(EExportFormat.CSV, outputStream);
+
+            // Then
+            assertEquals("id,assetCode,name,category,state,installDate,location,specification\r\n"
+                    + "1,LP000001,\"Asset, 15\"\"\",Laptop,AVAILABLE,2024-01-02,Ha Noi,\r\n",
+                    outputStream.toString(StandardCharsets.UTF_8));
+        }
+
         @Test
         @WithMockUser(username = "username", roles = "ADMIN")
         void testGetAllAssets_validRequest_returnPagination () {
             // Given
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocation()).willReturn(user.getLocation());
             category.setId(1L);
             List<Category> categories = Collections.singletonList(category);
             given(categoryRepository.findAllById(assetFilter.getCategoryIds())).willReturn(categories);
@@ -177,7 +230,7 @@ class AssetServiceImplTest {
 
             var pageRequest = PageRequest.of(0, 20, Sort.Direction.ASC, "name");
             Page<Asset> assets = new PageImpl<>(Collections.singletonList(asset), pageRequest, 1L);
-            given(assetRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(assets);
+            given(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any())).willReturn(assets);
 
             // When
             PaginationResponse<AssetResponseDto> actualResponse = assetService.getAllAssets(assetFilter);
@@ -191,6 +244,28 @@ class AssetServiceImplTest {
 
         }
 
+        @Test
+        @WithMockUser(username = "username", roles = "ADMIN")
+        void testGetAllAssets_cursorRequest_skipOffsetAndCount () {
+            // Given
+            given(authUtil.getCurrentLocation()).willReturn(user.getLocation());
+            category.setId(1L);
+            given(categoryRepository.findAllById(assetFilter.getCategoryIds()))
+                    .willReturn(Collections.singletonList(category));
+            given(assetRepository.findBy(any(Specification.class), any())).willReturn(List.of(asset));
+            given(assetMapper.toAssetResponseDto(asset)).willReturn(assetResponseDto);
+            assetFilter.setCursor("");
+
+            // When
+            PaginationResponse<AssetResponseDto> actualResponse = assetService.getAllAssets(assetFilter);
+
+            // Then
+            assertThat(actualResponse.getTotal()).isNull();
+            assertThat(actualResponse.getNextCursor()).isNull();
+            assertThat(actualResponse.getData()).containsExactly(assetResponseDto);
+            verify(pageCountService, times(0)).findPage(any(), any(), any(), any(), any());
+        }
+
         @Test
         void testGetAssetById_validRequest_returnAsset() {
             // Given
@@ -214,6 +289,7 @@ class AssetServiceImplTest {
 
             // Then
             verify(assetRepository, times(1)).delete(asset);
+            verify(reportCounterService).applyTransition(asset, asset.getState(), null);
         }
 
         @Test
@@ -232,7 +308,7 @@ class AssetServiceImplTest {
         void testUpdateAsset_validRequest_returnSuccess() {
             // Given
             given(assetRepository.findById(1L)).willReturn(Optional.of(asset));
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocationId()).willReturn(user.getLocation().getId());
 
             // When
             assetService.updateAsset(1L, assetUpdateDto);
@@ -248,7 +324,7 @@ class AssetServiceImplTest {
             asset.setInstallDate(LocalDate.now().minusMonths(1));
             assetUpdateDto.setInstallDate(LocalDate.now().minusMonths(2));
             given(assetRepository.findById(1L)).willReturn(Optional.of(asset));
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocationId()).willReturn(user.getLocation().getId());
 
             // When
             assetService.updateAsset(1L, assetUpdateDto);
@@ -264,7 +340,7 @@ class AssetServiceImplTest {
             asset.setInstallDate(LocalDate.now().minusMonths(10));
             assetUpdateDto.setInstallDate(LocalDate.now().minusMonths(2));
             given(assetRepository.findById(1L)).willReturn(Optional.of(asset));
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocationId()).willReturn(user.getLocation().getId());
 
             // When
             assetService.updateAsset(1L, assetUpdateDto);
@@ -280,7 +356,7 @@ class AssetServiceImplTest {
             asset.setInstallDate(LocalDate.now().minusMonths(10));
             assetUpdateDto.setInstallDate(LocalDate.now().minusMonths(5));
             given(assetRepository.findById(1L)).willReturn(Optional.of(asset));
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocationId()).willReturn(user.getLocation().getId());
 
             // When
             assetService.updateAsset(1L, assetUpdateDto);
@@ -439,10 +515,11 @@ class AssetServiceImplTest {
             assetUpdateDto.setVersion(1L);
             asset.setVersion(1L);
             asset.setLocation(Location.builder()
+                    .id(2L)
                     .name("HCM").build());
 
             given(assetRepository.findById(1L)).willReturn(Optional.of(asset));
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocationId()).willReturn(user.getLocation().getId());
 
             assertThatThrownBy(() -> assetService.updateAsset(1L, assetUpdateDto))
                     .isInstanceOf(AppException.class)
@@ -456,7 +533,7 @@ class AssetServiceImplTest {
             asset.setState(EAssetState.ASSIGNED);
 
             given(assetRepository.findById(1L)).willReturn(Optional.of(asset));
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocationId()).willReturn(user.getLocation().getId());
 
             assertThatThrownBy(() -> assetService.updateAsset(1L, assetUpdateDto))
                     .isInstanceOf(AppException.class)
@@ -470,7 +547,7 @@ class AssetServiceImplTest {
             asset.setState(EAssetState.AVAILABLE);
 
             given(assetRepository.findById(1L)).willReturn(Optional.of(asset));
-            given(authUtil.getCurrentUser()).willReturn(user);
+            given(authUtil.getCurrentLocationId()).willReturn(user.getLocation().getId());
             doThrow(new OptimisticLockingFailureException("")).when(assetRepository).save(asset);
 
             assertThatThrownBy(() -> assetService.updateAsset(1L, assetUpdateDto))
@@ -28,6 +28,8 @@ import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.AssignmentRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
 import com.nashtech.rookie.asset_management_0701.services.assignment.AssignmentServiceImpl;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -64,6 +66,12 @@ public class AssignmentServiceImplTest {
     @MockBean
     private AuthUtil authUtil;
 
+    @MockBean
+    private ReportCounterService reportCounterService;
+
+    @MockBean
+    private PageCountService pageCountService;
+
     @Autowired
     private AssignmentServiceImpl assignmentService;
 
@@ -189,10 +197,10 @@ public class AssignmentServiceImplTest {
         @WithMockUser(username = "User1", roles = "ADMIN")
         void testGetAllAssignment_validRequest_success (){
             // GIVEN
-            when(authUtil.getCurrentUser()).thenReturn(user1);
+            when(authUtil.getCurrentLocation()).thenReturn(user1.getLocation());
             var pageRequest = PageRequest.of(0, 20, Sort.Direction.ASC, "asset_name");
             Page<Assignment> assignments = new PageImpl<Assignment>(List.of(assignment), pageRequest, 1L);
-            given(assignmentRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(assignments);
+            given(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any())).willReturn(assignments);
 
             // WHEN
             var result = assignmentService.getAllAssignments(assignmentFilter);
@@ -218,10 +226,10 @@ public class AssignmentServiceImplTest {
                 .pageSize(20)
                 .pageNumber(1)
                 .build();
-            when(authUtil.getCurrentUser()).thenReturn(user1);
+            when(authUtil.getCurrentLocation()).thenReturn(user1.getLocation());
             var pageRequest = PageRequest.of(0, 20, Sort.Direction.ASC, "asset_name");
             Page<Assignment> assignments = new PageImpl<Assignment>(List.of(assignment), pageRequest, 1L);
-            given(assignmentRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(assignments);
+            given(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any())).willReturn(assignments);
 
             // WHEN
             var result = assignmentService.getAllAssignments(assignmentFilter);
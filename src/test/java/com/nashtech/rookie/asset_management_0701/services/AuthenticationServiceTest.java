@@ -8,24 +8,34 @@ import static org.mockito.Mockito.*;
 
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.nashtech.rookie.asset_management_0701.configs.security.JwtService;
 import com.nashtech.rookie.asset_management_0701.dtos.requests.auth.AuthenticationRequest;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.auth.TokenSweepResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.security.TokenClaims;
+import com.nashtech.rookie.asset_management_0701.entities.InvalidToken;
 import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
 import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
 import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.repositories.InvalidTokenRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
 import com.nashtech.rookie.asset_management_0701.services.auth.AuthenticationServiceImpl;
+import com.nashtech.rookie.asset_management_0701.services.cache.CacheInvalidationService;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 
 @SpringBootTest
@@ -49,6 +59,9 @@ public class AuthenticationServiceTest {
     @MockBean
     private AuthUtil authUtil;
 
+    @MockBean
+    private CacheInvalidationService cacheInvalidationService;
+
     private User user;
 
     private AuthenticationRequest authRequest;
@@ -75,25 +88,46 @@ public class AuthenticationServiceTest {
 
             // When
 
-            var authenticationResponse = authenticationService.login(authRequest);
+            var authenticationResponse = authenticationService.login(authRequest).join();
 
             // Then
 
             assertThat(authenticationResponse).isNotNull().hasFieldOrPropertyWithValue("token", "token");
+            verify(userRepository, never()).updateHashPassword(any(), any());
+        }
+
+        @Test
+        void login_outdatedHash_rehashPassword () {
+            // Given
+            user.setId(1L);
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("123456", user.getHashPassword())).thenReturn(true);
+            when(passwordEncoder.upgradeEncoding(user.getHashPassword())).thenReturn(true);
+            when(passwordEncoder.encode("123456")).thenReturn("{bcrypt}rehashed");
+            when(jwtService.generateToken(user)).thenReturn("token");
+
+            // When
+            authenticationService.login(authRequest).join();
+
+            // Then
+            verify(userRepository).updateHashPassword(1L, "{bcrypt}rehashed");
         }
 
         @Test
         void testLogout_whenSuccess () {
             String token = "token";
-            Date expiryDate = new Date();
-            when(jwtService.extractExpiration(token)).thenReturn(expiryDate);
+            Date expiryDate = new Date(System.currentTimeMillis() + 60_000);
+            when(jwtService.parseToken(token))
+                    .thenReturn(new TokenClaims("admin", "jti", expiryDate, EUserStatus.ACTIVE, ERole.ADMIN));
             when(authUtil.getCurrentUser()).thenReturn(user);
-            when(authUtil.getCurrentUserName()).thenReturn("admin");
             when(invalidTokenRepository.save(any())).thenReturn(null);
 
             authenticationService.logout(token);
 
-            verify(invalidTokenRepository, times(1)).save(any());
+            ArgumentCaptor<InvalidToken> saved = ArgumentCaptor.forClass(InvalidToken.class);
+            verify(invalidTokenRepository, times(1)).save(saved.capture());
+            assertThat(saved.getValue().getIdToken()).isEqualTo("jti");
+            verify(cacheInvalidationService).revokeToken("jti", expiryDate.toInstant());
 
         }
     }
@@ -125,7 +159,8 @@ public class AuthenticationServiceTest {
             when(passwordEncoder.matches("123456", user.getHashPassword())).thenReturn(false);
 
             // When
-            var exception = assertThrows(AppException.class, () -> authenticationService.login(authRequest));
+            var thrown = assertThrows(CompletionException.class, () -> authenticationService.login(authRequest).join());
+            var exception = (AppException) thrown.getCause();
 
             // Then
             assertThat(exception.getErrorCode().getInternalCode()).isEqualTo(1006);
@@ -142,7 +177,8 @@ public class AuthenticationServiceTest {
             when(passwordEncoder.matches("123456", user.getHashPassword())).thenReturn(true);
 
             // When
-            var exception = assertThrows(AppException.class, () -> authenticationService.login(authRequest));
+            var thrown = assertThrows(CompletionException.class, () -> authenticationService.login(authRequest).join());
+            var exception = (AppException) thrown.getCause();
 
             // Then
             assertThat(exception.getErrorCode().getInternalCode()).isEqualTo(1007);
@@ -153,11 +189,23 @@ public class AuthenticationServiceTest {
 
         @Test
         void testCleanUpDb () {
-            // Call the method under test
+            // Given
+            ReflectionTestUtils.setField(authenticationService, "sweepBatchSize", 2);
+            when(invalidTokenRepository.findExpiredIds(any(Instant.class), any(Limit.class)))
+                    .thenReturn(List.of("1", "2"))
+                    .thenReturn(List.of("3"));
+            when(invalidTokenRepository.deleteExpiredUpTo(any(Instant.class), anyString())).thenReturn(2, 1);
+
+            // When
             authenticationService.cleanInvalidToken();
 
-            // Verify that deleteExpiredTokens() was called on invalidTokenRepository with the current time
-            verify(invalidTokenRepository, atLeastOnce()).deleteExpiredTokens(any(Instant.class));
+            // Then
+            verify(invalidTokenRepository).deleteExpiredUpTo(any(Instant.class), eq("2"));
+            verify(invalidTokenRepository).deleteExpiredUpTo(any(Instant.class), eq("3"));
+            verifyNoInteractions(cacheInvalidationService);
+            TokenSweepResponse stats = authenticationService.getTokenSweepStats();
+            assertThat(stats.getLastDeletedCount()).isEqualTo(3);
+            assertThat(stats.getLastDurationMillis()).isNotNull();
         }
     }
 }
@@ -0,0 +1,154 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.nashtech.rookie.asset_management_0701.configs.cache.bus.InvalidationBus;
+import com.nashtech.rookie.asset_management_0701.configs.cache.bus.InvalidationEvent;
+import com.nashtech.rookie.asset_management_0701.configs.cache.bus.LoopbackInvalidationBus;
+import com.nashtech.rookie.asset_management_0701.configs.security.TokenRevocationIndex;
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+import com.nashtech.rookie.asset_management_0701.services.cache.CacheInvalidationServiceImpl;
+import com.nashtech.rookie.asset_management_0701.services.search.SuggestService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+class CacheInvalidationServiceImplTest {
+    private CacheManager localCaches;
+
+    private CacheManager remoteCaches;
+
+    private TokenRevocationIndex remoteIndex;
+
+    private SuggestService remoteSuggestService;
+
+    private CacheInvalidationServiceImpl localNode;
+
+    @BeforeEach
+    void setUp() {
+        LoopbackInvalidationBus bus = new LoopbackInvalidationBus();
+        localCaches = new CaffeineCacheManager("userDisable");
+        remoteCaches = new CaffeineCacheManager("userDisable");
+        remoteIndex = mock(TokenRevocationIndex.class);
+        remoteSuggestService = mock(SuggestService.class);
+        localNode = new CacheInvalidationServiceImpl(localCaches, mock(TokenRevocationIndex.class), bus,
+                mock(SuggestService.class));
+        CacheInvalidationServiceImpl remoteNode = new CacheInvalidationServiceImpl(remoteCaches, remoteIndex, bus,
+                remoteSuggestService);
+        localNode.subscribe();
+        remoteNode.subscribe();
+
+        localCaches.getCache("userDisable").put("admin", "cached");
+        remoteCaches.getCache("userDisable").put("admin", "cached");
+        remoteCaches.getCache("userDisable").put("other", "cached");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void evict_userDisabled_evictOnEveryNode() {
+            localNode.evict("userDisable", "admin");
+
+            assertThat(localCaches.getCache("userDisable").get("admin")).isNull();
+            assertThat(remoteCaches.getCache("userDisable").get("admin")).isNull();
+            assertThat(remoteCaches.getCache("userDisable").get("other")).isNotNull();
+        }
+
+        @Test
+        void clear_cacheCleared_clearOnEveryNode() {
+            localNode.clear("userDisable");
+
+            assertThat(remoteCaches.getCache("userDisable").get("other")).isNull();
+        }
+
+        @Test
+        void revokeToken_insideTransaction_publishOnlyAfterCommit() {
+            Instant expiry = Instant.now().plusSeconds(60);
+            TransactionSynchronizationManager.initSynchronization();
+
+            localNode.revokeToken("jti", expiry);
+            verify(remoteIndex, never()).revoke("jti", expiry);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            verify(remoteIndex).revoke("jti", expiry);
+        }
+
+        @Test
+        void reindex_insideTransaction_reloadOnOtherNodesAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            localNode.reindex(ESuggestType.ASSET, 3L);
+            verify(remoteSuggestService, never()).reindex(ESuggestType.ASSET, 3L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            verify(remoteSuggestService).reindex(ESuggestType.ASSET, 3L);
+        }
+
+        @Test
+        void clear_repeatedInsideTransaction_publishOnce() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            localNode.clear("userDisable");
+            localNode.clear("userDisable");
+
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+            assertThat(remoteCaches.getCache("userDisable").get("other")).isNotNull();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(remoteCaches.getCache("userDisable").get("other")).isNull();
+        }
+
+        @Test
+        void onEvent_resync_dropEverythingAndReloadRevocations() {
+            LoopbackInvalidationBus bus = new LoopbackInvalidationBus();
+            new CacheInvalidationServiceImpl(remoteCaches, remoteIndex, bus, remoteSuggestService).subscribe();
+
+            bus.publish(InvalidationEvent.resync());
+
+            assertThat(remoteCaches.getCache("userDisable").get("admin")).isNull();
+            verify(remoteIndex).warmUp();
+            verify(remoteSuggestService).rebuildIndexes();
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void revokeToken_publishFailsAfterCommit_keepLocalRevocation() {
+            Instant expiry = Instant.now().plusSeconds(60);
+            TokenRevocationIndex localIndex = mock(TokenRevocationIndex.class);
+            InvalidationBus failingBus = mock(InvalidationBus.class);
+            doThrow(new DataAccessResourceFailureException("connection lost")).when(failingBus).publish(any());
+            CacheInvalidationServiceImpl node = new CacheInvalidationServiceImpl(localCaches, localIndex, failingBus,
+                    mock(SuggestService.class));
+            TransactionSynchronizationManager.initSynchronization();
+
+            node.revokeToken("jti", expiry);
+
+            assertThatCode(() -> TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit)).doesNotThrowAnyException();
+            verify(localIndex).revoke("jti", expiry);
+            verify(failingBus).publish(any());
+        }
+    }
+}
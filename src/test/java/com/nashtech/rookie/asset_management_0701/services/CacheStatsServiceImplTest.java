@@ -0,0 +1,81 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.nashtech.rookie.asset_management_0701.configs.cache.CacheConfig;
+import com.nashtech.rookie.asset_management_0701.configs.cache.CacheProperties;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.cache.CacheStatsResponse;
+import com.nashtech.rookie.asset_management_0701.services.cache.CacheStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+class CacheStatsServiceImplTest {
+    private CacheManager cacheManager;
+
+    private CacheStatsServiceImpl cacheStatsService;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.CacheSpec userSpec = new CacheProperties.CacheSpec();
+        userSpec.setMaximumSize(2L);
+        CacheProperties.CacheSpec countSpec = new CacheProperties.CacheSpec();
+        countSpec.setExpireAfterWrite(Duration.ofSeconds(30));
+        CacheProperties properties = new CacheProperties();
+        properties.getCaches().put("userDisable", userSpec);
+        properties.getCaches().put("pageCounts", countSpec);
+
+        CacheConfig cacheConfig = new CacheConfig();
+        ReflectionTestUtils.setField(cacheConfig, "jwtExpiration", 3600L);
+        cacheManager = cacheConfig.cacheManager(properties);
+        cacheStatsService = new CacheStatsServiceImpl(cacheManager);
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void cacheManager_configuredCaches_applyOwnLimitsAndJwtExpirationDefault() {
+            assertThat(nativeCache("userDisable").policy().eviction().orElseThrow().getMaximum()).isEqualTo(2);
+            assertThat(nativeCache("userDisable").policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                    .isEqualTo(Duration.ofSeconds(3600));
+            assertThat(nativeCache("pageCounts").policy().expireAfterWrite().orElseThrow().getExpiresAfter())
+                    .isEqualTo(Duration.ofSeconds(30));
+            assertThat(nativeCache("createdOnFirstUse").policy().eviction()).isPresent();
+        }
+
+        @Test
+        void getCacheStats_cacheUsed_reportHitsMissesLoadsAndEvictions() {
+            org.springframework.cache.Cache cache = cacheManager.getCache("userDisable");
+            cache.get("admin", () -> "loaded");
+            cache.get("admin", () -> "loaded");
+            cache.get("missing");
+            cache.put("staff1", "data");
+            cache.put("staff2", "data");
+            nativeCache("userDisable").cleanUp();
+
+            List<CacheStatsResponse> stats = cacheStatsService.getCacheStats();
+
+            CacheStatsResponse userStats = stats.stream()
+                    .filter(response -> response.getName().equals("userDisable"))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(stats).extracting(CacheStatsResponse::getName).containsExactly("pageCounts", "userDisable");
+            assertThat(userStats.getHitCount()).isEqualTo(1);
+            assertThat(userStats.getMissCount()).isEqualTo(2);
+            assertThat(userStats.getLoadCount()).isEqualTo(1);
+            assertThat(userStats.getEvictionCount()).isEqualTo(1);
+            assertThat(userStats.getSize()).isEqualTo(2);
+        }
+    }
+}
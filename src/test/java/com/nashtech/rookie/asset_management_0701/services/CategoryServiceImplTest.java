@@ -24,6 +24,7 @@ import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.mappers.CategoryMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
 import com.nashtech.rookie.asset_management_0701.services.category.CategoryServiceImpl;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
 
 @SpringBootTest
 class CategoryServiceImplTest {
@@ -34,6 +35,9 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private ReportCounterService reportCounterService;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -7,6 +7,7 @@ import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
 import com.nashtech.rookie.asset_management_0701.services.location.LocationServiceImpl;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +22,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +31,9 @@ public class LocationServiceTest {
     @MockBean
     private LocationRepository locationRepository;
 
+    @MockBean
+    private ReportCounterService reportCounterService;
+
 
     @Autowired
     private LocationServiceImpl locationService;
@@ -85,6 +90,7 @@ public class LocationServiceTest {
             // Then
             assertEquals("Tay Ninh", result.getName());
             assertEquals("TN", result.getCode());
+            verify(reportCounterService).initCounters(location);
         }
     }
 
@@ -0,0 +1,163 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.enums.ECountMode;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetSpecification;
+import com.nashtech.rookie.asset_management_0701.services.count.CountKey;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class PageCountServiceImplTest {
+    @Autowired
+    private PageCountService pageCountService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Location location;
+
+    private Specification<Asset> inLocation;
+
+    private CountKey countKey;
+
+    private final PageRequest secondPage = PageRequest.of(1, 2, Sort.by("assetCode"));
+
+    @BeforeEach
+    void setUp() {
+        location = locationRepository.save(Location.builder().name("Counting").code("CT0001").build());
+        inLocation = AssetSpecification.hasLocation(location);
+        countKey = CountKey.of(Asset.class, location.getId(), " Laptop ");
+        for (int i = 0; i < 5; i++) {
+            saveAsset("CT" + i);
+        }
+        pageCountService.clearExactCounts();
+        pageCountService.clearEstimatedCounts();
+    }
+
+    private void saveAsset(String assetCode) {
+        assetRepository.save(Asset.builder()
+                .name("Laptop")
+                .assetCode(assetCode)
+                .location(location)
+                .state(EAssetState.AVAILABLE)
+                .build());
+    }
+
+    private void insertWithoutListener(String assetCode) {
+        jdbcTemplate.update("insert into assets (id, name, asset_code, location_id, state) " +
+                "values (next value for assets_seq, ?, ?, ?, ?)",
+                "Laptop", assetCode, location.getId(), EAssetState.AVAILABLE.name());
+    }
+
+    private List<String> codes(Slice<Asset> slice) {
+        return slice.getContent().stream().map(Asset::getAssetCode).toList();
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void findPage_noneMode_returnSliceWithoutTotal() {
+            Slice<Asset> slice = pageCountService.findPage(assetRepository, inLocation, secondPage,
+                    ECountMode.NONE, countKey);
+
+            assertThat(slice).isNotInstanceOf(Page.class);
+            assertThat(codes(slice)).containsExactly("CT2", "CT3");
+            assertThat(slice.hasNext()).isTrue();
+        }
+
+        @Test
+        void findPage_exactMode_serveCachedCountUntilInvalidated() {
+            Page<Asset> first = (Page<Asset>) pageCountService.findPage(assetRepository, inLocation, secondPage,
+                    ECountMode.EXACT, countKey);
+            insertWithoutListener("CT5");
+
+            Page<Asset> cached = (Page<Asset>) pageCountService.findPage(assetRepository, inLocation, secondPage,
+                    ECountMode.EXACT, CountKey.of(Asset.class, location.getId(), "laptop"));
+            pageCountService.invalidateCounts();
+            Page<Asset> recounted = (Page<Asset>) pageCountService.findPage(assetRepository, inLocation, secondPage,
+                    ECountMode.EXACT, countKey);
+
+            assertThat(codes(first)).containsExactly("CT2", "CT3");
+            assertThat(first.getTotalElements()).isEqualTo(5);
+            assertThat(cached.getTotalElements()).isEqualTo(5);
+            assertThat(recounted.getTotalElements()).isEqualTo(6);
+        }
+
+        @Test
+        void findPage_entityWritten_invalidateExactCount() {
+            pageCountService.findPage(assetRepository, inLocation, secondPage, ECountMode.EXACT, countKey);
+            saveAsset("CT5");
+
+            Page<Asset> page = (Page<Asset>) pageCountService.findPage(assetRepository, inLocation, secondPage,
+                    ECountMode.EXACT, countKey);
+
+            assertThat(page.getTotalElements()).isEqualTo(6);
+        }
+
+        @Test
+        void findPage_estimateMode_keepCountAcrossWrites() {
+            pageCountService.findPage(assetRepository, inLocation, secondPage, ECountMode.EXACT, countKey);
+            saveAsset("CT5");
+
+            Page<Asset> page = (Page<Asset>) pageCountService.findPage(assetRepository, inLocation, secondPage,
+                    ECountMode.ESTIMATE, countKey);
+
+            assertThat(page.getTotalElements()).isEqualTo(5);
+            assertThat(codes(page)).containsExactly("CT2", "CT3");
+        }
+
+        @Test
+        void findPage_userPasswordChanged_keepExactCount() {
+            User user = userRepository.saveAndFlush(User.builder().username("counted").firstName("Counted")
+                    .lastName("User").status(EUserStatus.FIRST_LOGIN).location(location).build());
+            pageCountService.findPage(assetRepository, inLocation, secondPage, ECountMode.EXACT, countKey);
+            insertWithoutListener("CT5");
+
+            user.setHashPassword("changed");
+            user.setStatus(EUserStatus.ACTIVE);
+            userRepository.saveAndFlush(user);
+            Page<Asset> kept = (Page<Asset>) pageCountService.findPage(assetRepository, inLocation, secondPage,
+                    ECountMode.EXACT, countKey);
+            user.setStatus(EUserStatus.DISABLED);
+            userRepository.saveAndFlush(user);
+            Page<Asset> recounted = (Page<Asset>) pageCountService.findPage(assetRepository, inLocation,
+                    secondPage, ECountMode.EXACT, countKey);
+
+            assertThat(kept.getTotalElements()).isEqualTo(5);
+            assertThat(recounted.getTotalElements()).isEqualTo(6);
+        }
+    }
+}
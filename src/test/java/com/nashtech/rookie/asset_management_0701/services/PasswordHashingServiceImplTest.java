@@ -0,0 +1,79 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nashtech.rookie.asset_management_0701.configs.ApplicationConfig;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.services.auth.PasswordHashingServiceImpl;
+
+class PasswordHashingServiceImplTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private PasswordHashingServiceImpl passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationConfig config = new ApplicationConfig(mock(UserRepository.class), mock(LocationRepository.class));
+        ReflectionTestUtils.setField(config, "passwordEncoderId", "bcrypt");
+        ReflectionTestUtils.setField(config, "bcryptStrength", 5);
+        PasswordEncoder passwordEncoder = config.passwordEncoder();
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.initialize();
+        passwordHashingService = new PasswordHashingServiceImpl(passwordEncoder, executor);
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void matches_legacyBcryptHash_matchAndRehashWithPrefix() {
+            String legacyHash = new BCryptPasswordEncoder(4).encode("123456");
+
+            assertThat(passwordHashingService.matches("123456", legacyHash).join()).isTrue();
+            String upgraded = passwordHashingService.rehashIfOutdated("123456", legacyHash);
+
+            assertThat(upgraded).startsWith("{bcrypt}$2a$05$");
+            assertThat(passwordHashingService.matches("123456", upgraded).join()).isTrue();
+            assertThat(passwordHashingService.rehashIfOutdated("123456", upgraded)).isNull();
+        }
+
+        @Test
+        void rehashIfOutdated_lowerStrength_rehash() {
+            String weakHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("123456");
+
+            assertThat(passwordHashingService.rehashIfOutdated("123456", weakHash)).startsWith("{bcrypt}$2a$05$");
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void matches_poolSaturated_throwTooManyLoginAttempts() {
+            ThreadPoolTaskExecutor fullExecutor = mock(ThreadPoolTaskExecutor.class);
+            doThrow(new TaskRejectedException("full")).when(fullExecutor).execute(any(Runnable.class));
+            PasswordHashingServiceImpl saturated = new PasswordHashingServiceImpl(new BCryptPasswordEncoder(),
+                    fullExecutor);
+
+            assertThatThrownBy(() -> saturated.matches("123456", "hash"))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+
+// a database created before the counters were kept per location, the DDL commits, so nothing here is transactional
+@SpringBootTest
+class ReportCounterLegacySchemaTest {
+    @Autowired
+    private ReportCounterService reportCounterService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category category;
+
+    private List<Location> locations;
+
+    @BeforeEach
+    void setUp() {
+        locations = locationRepository.saveAll(List.of(
+                Location.builder().name("Legacy").code("LG0001").build(),
+                Location.builder().name("Legacy 2").code("LG0002").build()));
+        category = categoryRepository.save(Category.builder().name("Legacy").code("LG").countAmount(0L).build());
+        jdbcTemplate.execute("alter table category_state_counters "
+                + "add constraint uk_category_state unique (category_id, state)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("alter table category_state_counters drop constraint if exists uk_category_state");
+        jdbcTemplate.update("delete from category_state_counters where category_id = ?", category.getId());
+        categoryRepository.delete(category);
+        locationRepository.deleteAll(locations);
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void initCounters_afterMigration_keepOneCounterPerLocation() {
+            assertThatThrownBy(() -> reportCounterService.initCounters(category))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+
+            DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(
+                    new ClassPathResource("db/migration/common/V6__drop_category_state_unique.sql")),
+                    jdbcTemplate.getDataSource());
+            reportCounterService.initCounters(category);
+
+            assertThat(jdbcTemplate.queryForObject("select count(*) from category_state_counters "
+                    + "where category_id = ?", Long.class, category.getId()))
+                    .isEqualTo(locationRepository.count() * EAssetState.values().length);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.CategoryStateAmount;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.CategoryStateCounter;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryStateCounterRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterServiceImpl;
+
+@SpringBootTest
+class ReportCounterServiceImplTest {
+
+    @Mock
+    private CategoryStateCounterRepository counterRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @InjectMocks
+    private ReportCounterServiceImpl reportCounterService;
+
+    private Category category;
+    private Location location;
+    private Asset asset;
+
+    @BeforeEach
+    void setUp () {
+        category = Category.builder().id(1L).name("Laptop").code("LA").countAmount(0L).build();
+        location = Location.builder().id(2L).name("Ha Noi").code("HN").build();
+        asset = Asset.builder().id(3L).category(category).location(location).build();
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void testInitCounters_validCategory_createCounterForEveryState () {
+            // Given
+            when(locationRepository.findAll()).thenReturn(List.of(location));
+
+            // When
+            reportCounterService.initCounters(category);
+
+            // Then
+            verify(counterRepository, times(EAssetState.values().length)).save(any(CategoryStateCounter.class));
+        }
+
+        @Test
+        void testApplyTransition_stateChanged_moveOneAsset () {
+            // Given
+            when(counterRepository.addAmount(anyLong(), anyLong(), any(EAssetState.class), anyLong())).thenReturn(1);
+
+            // When
+            reportCounterService.applyTransition(asset, EAssetState.AVAILABLE, EAssetState.ASSIGNED);
+
+            // Then
+            verify(counterRepository).addAmount(1L, 2L, EAssetState.AVAILABLE, -1L);
+            verify(counterRepository).addAmount(1L, 2L, EAssetState.ASSIGNED, 1L);
+            verify(counterRepository, never()).save(any(CategoryStateCounter.class));
+        }
+
+        @Test
+        void testApplyTransition_sameState_doNothing () {
+            // When
+            reportCounterService.applyTransition(asset, EAssetState.AVAILABLE, EAssetState.AVAILABLE);
+
+            // Then
+            verify(counterRepository, never()).addAmount(anyLong(), anyLong(), any(EAssetState.class), anyLong());
+        }
+
+        @Test
+        void testInitCounters_newLocation_createCounterPerCategoryAndState () {
+            // Given
+            when(categoryRepository.findAll()).thenReturn(List.of(category));
+
+            // When
+            reportCounterService.initCounters(location);
+
+            // Then
+            ArgumentCaptor<CategoryStateCounter> captor = ArgumentCaptor.forClass(CategoryStateCounter.class);
+            verify(counterRepository, times(EAssetState.values().length)).save(captor.capture());
+            assertThat(captor.getAllValues()).allSatisfy(counter -> {
+                assertThat(counter.getCategory()).isEqualTo(category);
+                assertThat(counter.getLocation()).isEqualTo(location);
+                assertThat(counter.getAmount()).isZero();
+            });
+        }
+
+        @Test
+        void testReconcileCounters_counterDrifted_rebuildAndReportDrift () {
+            // Given
+            List<CategoryStateCounter> counters = new ArrayList<>();
+            for (EAssetState state : EAssetState.values()) {
+                counters.add(CategoryStateCounter.builder()
+                        .category(category)
+                        .location(location)
+                        .state(state)
+                        .amount(0L)
+                        .build());
+            }
+            counters.get(0).setAmount(5L);
+            when(counterRepository.findAllForUpdate()).thenReturn(counters);
+            when(categoryRepository.findAll()).thenReturn(List.of(category));
+            when(locationRepository.findAll()).thenReturn(List.of(location));
+            when(assetRepository.getCategoryStateAmounts()).thenReturn(List.of(
+                    new CategoryStateAmount(1L, 2L, counters.get(0).getState(), 3L),
+                    new CategoryStateAmount(1L, 2L, counters.get(1).getState(), 2L)));
+
+            // When
+            int drift = reportCounterService.reconcileCounters();
+
+            // Then
+            assertThat(drift).isEqualTo(2);
+            assertThat(counters.get(0).getAmount()).isEqualTo(3L);
+            assertThat(counters.get(1).getAmount()).isEqualTo(2L);
+            verify(counterRepository, times(EAssetState.values().length)).save(any(CategoryStateCounter.class));
+        }
+
+        @Test
+        void testReconcileCounters_noCounters_createFromAssets () {
+            // Given
+            when(counterRepository.findAllForUpdate()).thenReturn(List.of());
+            when(categoryRepository.findAll()).thenReturn(List.of(category));
+            when(locationRepository.findAll()).thenReturn(List.of(location));
+            when(assetRepository.getCategoryStateAmounts())
+                    .thenReturn(List.of(new CategoryStateAmount(1L, 2L, EAssetState.ASSIGNED, 4L)));
+
+            // When
+            int drift = reportCounterService.reconcileCounters();
+
+            // Then
+            assertThat(drift).isEqualTo(1);
+            ArgumentCaptor<CategoryStateCounter> captor = ArgumentCaptor.forClass(CategoryStateCounter.class);
+            verify(counterRepository, times(EAssetState.values().length)).save(captor.capture());
+            assertThat(captor.getAllValues())
+                    .filteredOn(counter -> counter.getState() == EAssetState.ASSIGNED)
+                    .singleElement()
+                    .extracting(CategoryStateCounter::getAmount)
+                    .isEqualTo(4L);
+        }
+    }
+    @Nested
+    class UnhappyCase {
+        @Test
+        void testApplyTransition_counterMissing_throwException () {
+            // Given
+            when(counterRepository.addAmount(anyLong(), anyLong(), any(EAssetState.class), anyLong())).thenReturn(0);
+
+            // When
+            var thrown = assertThrows(IllegalStateException.class,
+                    () -> reportCounterService.applyTransition(asset, null, EAssetState.AVAILABLE));
+
+            // Then
+            assertThat(thrown.getMessage()).isEqualTo("No report counter for category 1, location 2, state AVAILABLE");
+            verify(counterRepository, never()).save(any(CategoryStateCounter.class));
+        }
+    }
+}
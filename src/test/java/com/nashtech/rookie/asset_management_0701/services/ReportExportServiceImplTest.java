@@ -0,0 +1,247 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.report.ReportExportJobResponse;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.enums.EExportJobStatus;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportExportServiceImpl;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportScope;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportService;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+
+class ReportExportServiceImplTest {
+
+    private ReportService reportService;
+    private AuthUtil authUtil;
+    private ThreadPoolTaskExecutor executor;
+    private ReportExportServiceImpl reportExportService;
+
+    @TempDir
+    Path spoolDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        reportService = mock(ReportService.class);
+        authUtil = mock(AuthUtil.class);
+        executor = mock(ThreadPoolTaskExecutor.class);
+        ReportScope reportScope = new ReportScope(authUtil);
+        ReflectionTestUtils.setField(reportScope, "headOfficeLocationIds", Set.of(1L));
+        reportExportService = new ReportExportServiceImpl(reportService, authUtil, reportScope, executor);
+        ReflectionTestUtils.setField(reportExportService, "spoolDir", spoolDir);
+        ReflectionTestUtils.setField(reportExportService, "ttl", Duration.ofHours(1));
+        reportExportService.initSpoolDir();
+
+        setCurrentLocation(1L);
+        doAnswer(invocation -> {
+            invocation.getArgument(4, OutputStream.class).write("report".getBytes());
+            return null;
+        }).when(reportService).writeReport(any(), any(), any(), any(), any(OutputStream.class));
+    }
+
+    private void setCurrentLocation(Long locationId) {
+        when(authUtil.getCurrentLocationId()).thenReturn(locationId);
+    }
+
+    private void runSubmittedTasks() {
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void submitExport_validRequest_buildFileInSpoolDir() throws Exception {
+            // Given
+            runSubmittedTasks();
+
+            // When
+            ReportExportJobResponse job = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+
+            // Then
+            ReportExportJobResponse status = reportExportService.getExport(job.getJobId());
+            assertThat(status.getStatus()).isEqualTo(EExportJobStatus.COMPLETED);
+            assertThat(status.getFinishedAt()).isNotNull();
+
+            Path file = reportExportService.getCompletedExport(job.getJobId()).getFile();
+            assertThat(file.getParent()).isEqualTo(spoolDir);
+            assertThat(file.getFileName().toString()).endsWith(".xlsx");
+            assertThat(Files.readString(file)).isEqualTo("report");
+        }
+
+        @Test
+        void submitExport_identicalRequestInProgress_returnSameJob() {
+            // When
+            ReportExportJobResponse first = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+            ReportExportJobResponse second = reportExportService.submitExport("id", "ASC", false, EExportFormat.XLSX);
+
+            // Then
+            assertThat(second.getJobId()).isEqualTo(first.getJobId());
+            assertThat(second.getStatus()).isEqualTo(EExportJobStatus.PENDING);
+            verify(executor, times(1)).execute(any(Runnable.class));
+        }
+
+        @Test
+        void submitExport_differentFormat_startNewJob() {
+            // When
+            ReportExportJobResponse xlsx = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+            ReportExportJobResponse csv = reportExportService.submitExport("id", "asc", false, EExportFormat.CSV);
+
+            // Then
+            assertThat(csv.getJobId()).isNotEqualTo(xlsx.getJobId());
+            assertThat(csv.getFormat()).isEqualTo(EExportFormat.CSV);
+            verify(executor, times(2)).execute(any(Runnable.class));
+        }
+
+        @Test
+        void submitExport_previousJobFinished_startNewJob() {
+            // Given
+            runSubmittedTasks();
+
+            // When
+            ReportExportJobResponse first = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+            ReportExportJobResponse second = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+
+            // Then
+            assertThat(second.getJobId()).isNotEqualTo(first.getJobId());
+            verify(reportService, times(2))
+                    .writeReport(eq("id"), eq("ASC"), eq(1L), eq(EExportFormat.XLSX), any(OutputStream.class));
+        }
+
+        @Test
+        void submitExport_allLocations_buildWithoutLocation() {
+            // Given
+            runSubmittedTasks();
+
+            // When
+            reportExportService.submitExport("id", "asc", true, EExportFormat.XLSX);
+
+            // Then
+            verify(reportService)
+                    .writeReport(eq("id"), eq("ASC"), isNull(), eq(EExportFormat.XLSX), any(OutputStream.class));
+        }
+
+        @Test
+        void cleanExpiredExports_jobExpired_removeJobAndFile() throws Exception {
+            // Given
+            runSubmittedTasks();
+            ReportExportJobResponse job = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+            Path file = reportExportService.getCompletedExport(job.getJobId()).getFile();
+            ReflectionTestUtils.setField(reportExportService, "ttl", Duration.ZERO);
+
+            // When
+            reportExportService.cleanExpiredExports();
+
+            // Then
+            assertThat(Files.exists(file)).isFalse();
+            assertThatThrownBy(() -> reportExportService.getExport(job.getJobId()))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_EXPORT_NOT_FOUND);
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void getCompletedExport_jobNotFinished_throwNotReady() {
+            // Given
+            ReportExportJobResponse job = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+
+            // When Then
+            assertThatThrownBy(() -> reportExportService.getCompletedExport(job.getJobId()).getFile())
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_EXPORT_NOT_READY);
+        }
+
+        @Test
+        void getExport_otherLocation_throwNotFound() {
+            // Given
+            ReportExportJobResponse job = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+            setCurrentLocation(2L);
+
+            // When Then
+            assertThatThrownBy(() -> reportExportService.getExport(job.getJobId()))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_EXPORT_NOT_FOUND);
+        }
+
+        @Test
+        void submitExport_allLocationsOutsideHeadOffice_throwUnauthorized() {
+            // Given
+            setCurrentLocation(2L);
+
+            // When Then
+            assertThatThrownBy(() -> reportExportService.submitExport("id", "asc", true, EExportFormat.XLSX))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNAUTHORIZED);
+        }
+
+        @Test
+        void getExport_allLocationsJobOutsideHeadOffice_throwNotFound() {
+            // Given
+            ReportExportJobResponse job = reportExportService.submitExport("id", "asc", true, EExportFormat.XLSX);
+            setCurrentLocation(2L);
+
+            // When Then
+            assertThatThrownBy(() -> reportExportService.getExport(job.getJobId()))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_EXPORT_NOT_FOUND);
+        }
+
+        @Test
+        void submitExport_queueFull_throwTooManyRequests() {
+            // Given
+            doThrow(new TaskRejectedException("full")).when(executor).execute(any(Runnable.class));
+
+            // When Then
+            assertThatThrownBy(() -> reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_EXPORT_QUEUE_FULL);
+        }
+
+        @Test
+        void submitExport_buildFailed_markJobFailed() {
+            // Given
+            runSubmittedTasks();
+            doThrow(new AppException(ErrorCode.INVALID_SORT_FIELD)).when(reportService)
+                    .writeReport(any(), any(), any(), any(), any(OutputStream.class));
+
+            // When
+            ReportExportJobResponse job = reportExportService.submitExport("id", "asc", false, EExportFormat.XLSX);
+
+            // Then
+            assertThat(reportExportService.getExport(job.getJobId()).getStatus()).isEqualTo(EExportJobStatus.FAILED);
+            assertThatThrownBy(() -> reportExportService.getCompletedExport(job.getJobId()).getFile())
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_EXPORT_NOT_READY);
+        }
+    }
+}
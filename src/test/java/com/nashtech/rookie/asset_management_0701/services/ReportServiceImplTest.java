@@ -1,14 +1,23 @@
 package com.nashtech.rookie.asset_management_0701.services;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
 import com.nashtech.rookie.asset_management_0701.dtos.responses.ReportResponse;
-import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryStateCounterRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
 import com.nashtech.rookie.asset_management_0701.services.report.ReportServiceImpl;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 import com.nashtech.rookie.asset_management_0701.utils.report.ReportUtil;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,8 +25,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -25,25 +32,59 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
 @ExtendWith(MockitoExtension.class)
-@SpringBootTest
+@SpringBootTest(properties = "application.report.head-office-location-ids=1")
 public class ReportServiceImplTest {
     @Autowired
     private ReportServiceImpl reportService;
 
     @MockBean
-    private CategoryRepository categoryRepository;
+    private CategoryStateCounterRepository counterRepository;
 
     @MockBean
     private ReportUtil reportUtil;
 
+    @MockBean
+    private LocationRepository locationRepository;
+
+    @MockBean
+    private AuthUtil authUtil;
+
+    private final Location hanoi = Location.builder().id(1L).name("Ha Noi").build();
+
+    private final Location hcm = Location.builder().id(2L).name("Ho Chi Minh").build();
+
+    @BeforeEach
+    void setUp() {
+        when(authUtil.getCurrentLocationId()).thenReturn(hanoi.getId());
+    }
+
+    private ReportResponse report(Long categoryId, String categoryName, Location location, long assigned,
+                                  long available) {
+        return ReportResponse.builder()
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .locationId(location.getId())
+                .locationName(location.getName())
+                .total(assigned + available)
+                .assignedCount(assigned)
+                .availableCount(available)
+                .notAvailableCount(0L)
+                .waitingForRecycleCount(0L)
+                .recycledCount(0L)
+                .build();
+    }
+
     @Nested
     class HappyCase {
         @Test
@@ -51,10 +92,10 @@ public class ReportServiceImplTest {
             // Given
             List<ReportResponse> mockReportList = Collections.singletonList(new ReportResponse());
             Page<ReportResponse> mockPage = new PageImpl<>(mockReportList, PageRequest.of(0, 10, Sort.by("id")), 1);
-            when(categoryRepository.getReport(any(Pageable.class))).thenReturn(mockPage);
+            when(counterRepository.getReport(eq(1L), any(Pageable.class))).thenReturn(mockPage);
 
             // When
-            PaginationResponse<ReportResponse> result = reportService.getReport(1, 10, "id", "asc");
+            PaginationResponse<ReportResponse> result = reportService.getReport(1, 10, "id", "asc", false);
 
             // Then
             assertEquals(1, result.getPage());
@@ -64,21 +105,94 @@ public class ReportServiceImplTest {
         }
 
         @Test
-        void adminExportReportTest_validRequest_returnResourceDataType() {
+        void adminExportReportTest_validRequest_writeToOutputStream() {
             // Given
             List<ReportResponse> mockReportList = Collections.singletonList(new ReportResponse());
-            when(categoryRepository.getReport(any(Pageable.class))).thenReturn(new PageImpl<>(mockReportList));
+            when(counterRepository.getReport(eq(1L), any(Pageable.class))).thenReturn(new PageImpl<>(mockReportList));
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-            ByteArrayInputStream mockInputStream = new ByteArrayInputStream(new byte[]{});
-            when(reportUtil.writeExcel(mockReportList)).thenReturn(mockInputStream);
+            // When
+            reportService.exportReport("id", "asc", false, EExportFormat.XLSX, outputStream);
+
+            // Then
+            verify(counterRepository, times(1)).getReport(eq(1L), any(Pageable.class));
+            verify(reportUtil, times(1)).writeExcel(mockReportList, outputStream);
+        }
+
+        @Test
+        void adminExportReport_csvFormat_streamRowsFromRepository() {
+            // Given
+            when(counterRepository.streamReport(eq(1L), any(Sort.class)))
+                    .thenReturn(Stream.of(report(1L, "Laptop", hanoi, 1, 2)));
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // When
+            reportService.exportReport("id", "asc", false, EExportFormat.CSV, outputStream);
+
+            // Then
+            String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+            assertEquals(2, lines.length);
+            assertEquals("categoryId,categoryName,locationId,locationName,total,assignedCount,availableCount,"
+                    + "notAvailableCount,waitingForRecycleCount,recycledCount", lines[0]);
+            assertEquals("1,Laptop,1,Ha Noi,3,1,2,0,0,0", lines[1]);
+            verify(reportUtil, never()).writeExcel(any(), any());
+        }
+
+        @Test
+        void adminGetReport_allLocations_mergePerLocationReports() {
+            // Given
+            when(locationRepository.findAll()).thenReturn(List.of(hanoi, hcm));
+            when(counterRepository.getReport(eq(1L), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                    report(1L, "Laptop", hanoi, 1, 2),
+                    report(2L, "Monitor", hanoi, 0, 4))));
+            when(counterRepository.getReport(eq(2L), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                    report(1L, "Laptop", hcm, 3, 0))));
+
+            // When
+            PaginationResponse<ReportResponse> result = reportService.getReport(1, 10, "total", "desc", true);
+
+            // Then
+            assertEquals(2, result.getTotal());
+            assertEquals(2, result.getData().size());
+            ReportResponse laptop = result.getData().get(0);
+            assertEquals(1L, laptop.getCategoryId());
+            assertNull(laptop.getLocationId());
+            assertEquals(6L, laptop.getTotal());
+            assertEquals(4L, laptop.getAssignedCount());
+            assertEquals(2L, laptop.getAvailableCount());
+            assertEquals(2L, result.getData().get(1).getCategoryId());
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void adminGetReport_allLocationsOutsideHeadOffice_throwException() {
+            // Given
+            when(authUtil.getCurrentLocationId()).thenReturn(hcm.getId());
+
+            // When
+            AppException exception = assertThrows(AppException.class,
+                    () -> reportService.getReport(1, 10, "id", "asc", true));
+
+            // Then
+            assertEquals(ErrorCode.UNAUTHORIZED, exception.getErrorCode());
+            verify(counterRepository, never()).getReport(any(), any(Pageable.class));
+        }
+
+        @Test
+        void adminGetReport_allLocationsWithInvalidSort_throwException() {
+            // Given
+            when(locationRepository.findAll()).thenReturn(List.of(hanoi));
 
             // When
-            Resource result = reportService.exportReport("id", "asc");
+            AppException exception = assertThrows(AppException.class,
+                    () -> reportService.getReport(1, 10, "unknown", "asc", true));
 
             // Then
-            assertInstanceOf(InputStreamResource.class, result);
-            verify(categoryRepository, times(1)).getReport(any(Pageable.class));
-            verify(reportUtil, times(1)).writeExcel(mockReportList);
+            assertEquals(ErrorCode.INVALID_SORT_FIELD, exception.getErrorCode());
         }
     }
 }
@@ -14,6 +14,7 @@ import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
 import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.repositories.AssignmentRepository;
 import com.nashtech.rookie.asset_management_0701.repositories.ReturningRequestRepository;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
 import com.nashtech.rookie.asset_management_0701.services.returning_request.ReturningRequestServiceImpl;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 import org.assertj.core.api.Assertions;
@@ -36,6 +37,9 @@ class ReturningRequestServiceImplTest {
     @MockBean
     private AuthUtil authUtil;
 
+    @MockBean
+    private ReportCounterService reportCounterService;
+
     @MockBean
     ReturningRequestRepository returningRequestRepository;
 
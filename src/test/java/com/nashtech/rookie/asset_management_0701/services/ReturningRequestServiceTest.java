@@ -10,6 +10,8 @@ import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentReturnState;
 import com.nashtech.rookie.asset_management_0701.enums.EAssignmentState;
 import com.nashtech.rookie.asset_management_0701.repositories.ReturningRequestRepository;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
+import com.nashtech.rookie.asset_management_0701.services.report.ReportCounterService;
 import com.nashtech.rookie.asset_management_0701.services.returning_request.ReturningRequestService;
 import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +46,12 @@ public class ReturningRequestServiceTest {
     @MockBean
     private AuthUtil authUtil;
 
+    @MockBean
+    private ReportCounterService reportCounterService;
+
+    @MockBean
+    private PageCountService pageCountService;
+
     @Autowired
     private ReturningRequestService returningRequestService;
 
@@ -120,10 +128,10 @@ public class ReturningRequestServiceTest {
         @WithMockUser(username = "user1", roles = "ADMIN")
         void testGetAllReturningRequests_validRequest_success () {
             // GIVEN
-            when(authUtil.getCurrentUser()).thenReturn(user1);
+            when(authUtil.getCurrentLocation()).thenReturn(user1.getLocation());
             var pageRequest = PageRequest.of(0, 20, Sort.Direction.ASC, "assetName");
             Page<ReturningRequest> returningRequests = new PageImpl<>(List.of(returningRequest), pageRequest, 1L);
-            given(returningRequestRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(returningRequests);
+            given(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any())).willReturn(returningRequests);
 
             // WHEN
             var result = returningRequestService.getAllReturningRequests(returningRequestFilter);
@@ -148,10 +156,10 @@ public class ReturningRequestServiceTest {
                     .pageSize(20)
                     .pageNumber(1)
                     .build();
-            when(authUtil.getCurrentUser()).thenReturn(user1);
+            when(authUtil.getCurrentLocation()).thenReturn(user1.getLocation());
             var pageRequest = PageRequest.of(0, 20, Sort.Direction.ASC, "assetName");
             Page<ReturningRequest> returningRequests = new PageImpl<>(List.of(returningRequest), pageRequest, 1L);
-            given(returningRequestRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(returningRequests);
+            given(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any())).willReturn(returningRequests);
 
             // WHEN
             var result = returningRequestService.getAllReturningRequests(returningRequestFilter);
@@ -176,10 +184,10 @@ public class ReturningRequestServiceTest {
                     .pageSize(20)
                     .pageNumber(1)
                     .build();
-            when(authUtil.getCurrentUser()).thenReturn(user1);
+            when(authUtil.getCurrentLocation()).thenReturn(user1.getLocation());
             var pageRequest = PageRequest.of(0, 20, Sort.Direction.ASC, "assetName");
             Page<ReturningRequest> returningRequests = new PageImpl<>(List.of(returningRequest), pageRequest, 1L);
-            given(returningRequestRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(returningRequests);
+            given(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any())).willReturn(returningRequests);
 
             // WHEN
             var result = returningRequestService.getAllReturningRequests(returningRequestFilter);
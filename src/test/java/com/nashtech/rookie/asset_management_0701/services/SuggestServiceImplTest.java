@@ -0,0 +1,183 @@
+package com.nashtech.rookie.asset_management_0701.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.AssetSuggestRow;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.SuggestionResponse;
+import com.nashtech.rookie.asset_management_0701.dtos.responses.search.UserSuggestRow;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ESuggestType;
+import com.nashtech.rookie.asset_management_0701.enums.EUserStatus;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.services.search.SuggestServiceImpl;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestServiceImplTest {
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuthUtil authUtil;
+
+    @InjectMocks
+    private SuggestServiceImpl suggestService;
+
+    private final Location hcm = Location.builder().id(1L).build();
+
+    private final Location hn = Location.builder().id(2L).build();
+
+    @BeforeEach
+    void setUp() {
+        when(assetRepository.streamSuggestRows()).thenReturn(Stream.of(
+                new AssetSuggestRow(1L, "LA000001", "Laptop Dell", hcm.getId()),
+                new AssetSuggestRow(2L, "LA000002", "Laptop HP", hcm.getId()),
+                new AssetSuggestRow(3L, "MO000001", "Monitor Dell", hcm.getId()),
+                new AssetSuggestRow(4L, "LA000003", "Laptop Asus", hn.getId())));
+        // disabled users are left out by the query
+        when(userRepository.streamSuggestRows(EUserStatus.DISABLED)).thenReturn(Stream.of(
+                new UserSuggestRow(1L, "SD0001", "Nguyen", "Van An", "annv", hcm.getId())));
+        suggestService.rebuildIndexes();
+        lenient().when(authUtil.getCurrentLocationId()).thenReturn(hcm.getId());
+    }
+
+    private Asset asset(Long id, String assetCode, String name, Location location) {
+        return Asset.builder().id(id).assetCode(assetCode).name(name).location(location).build();
+    }
+
+    private User user(Long id, String staffCode, String firstName, String lastName, String username,
+                      EUserStatus status) {
+        return User.builder().id(id).staffCode(staffCode).firstName(firstName).lastName(lastName)
+                .username(username).status(status).location(hcm).build();
+    }
+
+    private List<Long> suggestIds(ESuggestType type, String query) {
+        return suggestService.suggest(type, query, null).stream().map(SuggestionResponse::getId).toList();
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void suggest_substringQuery_matchOwnLocationOnly() {
+            assertThat(suggestIds(ESuggestType.ASSET, "LAPTOP")).containsExactly(1L, 2L);
+            assertThat(suggestIds(ESuggestType.ASSET, "dell")).containsExactly(1L, 3L);
+        }
+
+        @Test
+        void suggest_prefixMatch_rankBeforeSubstringMatch() {
+            assertThat(suggestIds(ESuggestType.ASSET, "mo")).containsExactly(3L);
+            assertThat(suggestIds(ESuggestType.ASSET, "l")).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        void suggest_codeQuery_returnCodeAndLabel() {
+            List<SuggestionResponse> result = suggestService.suggest(ESuggestType.ASSET, "000002", 5);
+
+            assertThat(result).singleElement().satisfies(suggestion -> {
+                assertThat(suggestion.getCode()).isEqualTo("LA000002");
+                assertThat(suggestion.getLabel()).isEqualTo("Laptop HP");
+            });
+        }
+
+        @Test
+        void suggest_userQuery_matchFullNameStaffCodeAndUsername() {
+            assertThat(suggestIds(ESuggestType.USER, "nguyen van")).containsExactly(1L);
+            assertThat(suggestIds(ESuggestType.USER, "sd000")).containsExactly(1L);
+            assertThat(suggestIds(ESuggestType.USER, "annv")).containsExactly(1L);
+            assertThat(suggestIds(ESuggestType.USER, "binh")).isEmpty();
+        }
+
+        @Test
+        void indexAsset_renamedAndMoved_replaceOldEntry() {
+            suggestService.indexAsset(asset(2L, "LA000002", "Printer HP", hcm));
+            suggestService.indexAsset(asset(1L, "LA000001", "Laptop Dell", hn));
+
+            assertThat(suggestIds(ESuggestType.ASSET, "laptop")).isEmpty();
+            assertThat(suggestIds(ESuggestType.ASSET, "printer")).containsExactly(2L);
+        }
+
+        @Test
+        void indexUser_disabled_dropFromSuggestions() {
+            suggestService.indexUser(user(1L, "SD0001", "Nguyen", "Van An", "annv", EUserStatus.DISABLED));
+
+            assertThat(suggestIds(ESuggestType.USER, "annv")).isEmpty();
+        }
+
+        @Test
+        void remove_indexedAsset_dropFromSuggestions() {
+            suggestService.remove(ESuggestType.ASSET, 3L);
+
+            assertThat(suggestIds(ESuggestType.ASSET, "dell")).containsExactly(1L);
+        }
+
+        @Test
+        void reindex_writtenOnOtherNode_reloadRow() {
+            when(assetRepository.findSuggestRow(3L))
+                    .thenReturn(Optional.of(new AssetSuggestRow(3L, "MO000001", "Monitor Samsung", hcm.getId())));
+
+            suggestService.reindex(ESuggestType.ASSET, 3L);
+
+            assertThat(suggestIds(ESuggestType.ASSET, "dell")).containsExactly(1L);
+            assertThat(suggestIds(ESuggestType.ASSET, "samsung")).containsExactly(3L);
+        }
+
+        @Test
+        void reindex_rowGoneOrDisabled_dropFromSuggestions() {
+            when(userRepository.findSuggestRow(1L, EUserStatus.DISABLED)).thenReturn(Optional.empty());
+
+            suggestService.reindex(ESuggestType.USER, 1L);
+
+            assertThat(suggestIds(ESuggestType.USER, "annv")).isEmpty();
+        }
+
+        @Test
+        void rebuildIndexes_rowsRemovedMeanwhile_dropStaleEntries() {
+            when(assetRepository.streamSuggestRows()).thenReturn(Stream.of(
+                    new AssetSuggestRow(1L, "LA000001", "Laptop Dell", hcm.getId())));
+            when(userRepository.streamSuggestRows(EUserStatus.DISABLED)).thenReturn(Stream.empty());
+
+            suggestService.rebuildIndexes();
+
+            assertThat(suggestIds(ESuggestType.ASSET, "l")).containsExactly(1L);
+            assertThat(suggestIds(ESuggestType.USER, "annv")).isEmpty();
+        }
+
+        @Test
+        void suggest_limit_capResults() {
+            assertThat(suggestService.suggest(ESuggestType.ASSET, "a", 1)).hasSize(1);
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void suggest_gramsNotAdjacent_returnEmpty() {
+            assertThat(suggestIds(ESuggestType.ASSET, "laptop dell hp")).isEmpty();
+            assertThat(suggestIds(ESuggestType.ASSET, "dellap")).isEmpty();
+        }
+
+        @Test
+        void suggest_blankQuery_returnEmpty() {
+            assertThat(suggestIds(ESuggestType.ASSET, " ")).isEmpty();
+        }
+    }
+}
@@ -54,6 +54,7 @@ import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
 import com.nashtech.rookie.asset_management_0701.mappers.UserMapper;
 import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
 import com.nashtech.rookie.asset_management_0701.services.user.UserServiceImpl;
+import com.nashtech.rookie.asset_management_0701.services.count.PageCountService;
 
 @ExtendWith(MockitoExtension.class)
 @SpringBootTest
@@ -77,6 +78,9 @@ class UserServiceTest {
     @MockBean
     private PasswordEncoder passwordEncoder;
 
+    @MockBean
+    private PageCountService pageCountService;
+
     @Autowired
     private UserServiceImpl userService;
 
@@ -216,14 +220,15 @@ class UserServiceTest {
                 String searchString, String type, String sortBy, String sortDir, Integer pageNumber, Integer pageSize) {
 
             // set up
-            var searchDto = new UserSearchDto(searchString, type, sortBy, sortDir, pageNumber, pageSize);
+            var searchDto = new UserSearchDto(searchString, type, sortBy, sortDir, pageNumber, pageSize, null, "exact");
             var pageRequest = PageRequest.of(0, 20);
             var resultPage = new PageImpl<>(List.of(userInDB), pageRequest, 1);
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
+            when(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any()))
                     .thenReturn(resultPage);
 
             when(userRepository.findByUsername("abc.com")).thenReturn(Optional.of(adminUsing));
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentUserId()).thenReturn(adminUsing.getId());
+            when(authUtil.getCurrentLocation()).thenReturn(adminUsing.getLocation());
 
             // run
             var result = userService.getAllUser(searchDto);
@@ -248,13 +253,14 @@ class UserServiceTest {
                 String searchString, String type, String sortBy, String sortDir, Integer pageNumber, Integer pageSize) {
 
             // set up
-            var searchDto = new UserSearchDto(searchString, type, sortBy, sortDir, pageNumber, pageSize);
+            var searchDto = new UserSearchDto(searchString, type, sortBy, sortDir, pageNumber, pageSize, null, "exact");
             var pageRequest = PageRequest.of(0, 20);
             var resultPage = new PageImpl<>(List.of(userInDB), pageRequest, 1);
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
+            when(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any()))
                     .thenReturn(resultPage);
 
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentUserId()).thenReturn(adminUsing.getId());
+            when(authUtil.getCurrentLocation()).thenReturn(adminUsing.getLocation());
             when(userRepository.findByUsername("abc.com")).thenReturn(Optional.of(adminUsing));
 
             // run
@@ -335,7 +341,7 @@ class UserServiceTest {
             userInDB.setLocation(adminLocation);
             when(userRepository.findById(1L)).thenReturn(Optional.of(userInDB));
             when(userRepository.findByUsername("test")).thenReturn(Optional.of(adminUsing));
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentLocationId()).thenReturn(adminLocation.getId());
             when(assignmentRepository.exists(any(Specification.class))).thenReturn(false);
             when(userRepository.save(userInDB)).thenReturn(userInDB);
             // when
@@ -357,7 +363,7 @@ class UserServiceTest {
             request.setVersion(1L);
 
             when(userRepository.findByIdAndLocation(1L, adminLocation)).thenReturn(Optional.of(userInDB));
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentLocation()).thenReturn(adminUsing.getLocation());
             when(userRepository.save(any())).thenReturn(userInDB);
             // When
             UserResponse result = userService.editUser(1L, request);
@@ -435,10 +441,10 @@ class UserServiceTest {
         @WithMockUser(username = "abc.com", roles = "ADMIN")
         void testGetAllUse_whenPageNumberIs0_shouldThrowAppExcpetionWithErrorCodeBadPageable () {
             // set up
-            var searchDto = new UserSearchDto("first", "ADMIN", "firstName", "DESC", 0, 20);
+            var searchDto = new UserSearchDto("first", "ADMIN", "firstName", "DESC", 0, 20, null, "exact");
             var pageRequest = PageRequest.of(0, 20);
             var resultPage = new PageImpl<>(List.of(userInDB), pageRequest, 1);
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
+            when(pageCountService.findPage(any(), any(Specification.class), any(Pageable.class), any(), any()))
                     .thenReturn(resultPage);
 
             when(userRepository.findByUsername("abc.com")).thenReturn(Optional.of(adminUsing));
@@ -455,7 +461,7 @@ class UserServiceTest {
         @WithMockUser(username = "abc.com", roles = "ADMIN")
         void testGetAllUse_whenSortbyDoesNotSupport_shouldReturnUsingDefault () {
             // set up
-            var searchDto = new UserSearchDto("first", "ADMIN", "A", "DESC", 0, 20);
+            var searchDto = new UserSearchDto("first", "ADMIN", "A", "DESC", 0, 20, null, "exact");
             var pageRequest = PageRequest.of(0, 20);
             var resultPage = new PageImpl<>(List.of(userInDB), pageRequest, 1);
             when(userRepository.findAll(any(Specification.class),
@@ -575,10 +581,10 @@ class UserServiceTest {
         @WithMockUser(username = "test", roles = "ADMIN")
         void testDisableUser_whenAdminDifferentLocation_shouldThrowCorrectError (){
             // given
-            userInDB.setLocation(new Location());
+            userInDB.setLocation(Location.builder().id(3L).build());
             when(userRepository.findById(1L)).thenReturn(Optional.of(userInDB));
             when(userRepository.findByUsername("test")).thenReturn(Optional.of(adminUsing));
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentLocationId()).thenReturn(adminLocation.getId());
 
             // when
             AppException exception = assertThrows(AppException.class, () -> userService.disableUser(1L));
@@ -594,7 +600,7 @@ class UserServiceTest {
             when(userRepository.findById(1L)).thenReturn(Optional.of(userInDB));
             when(userRepository.findByUsername("test")).thenReturn(Optional.of(adminUsing));
             when(assignmentRepository.exists(any(Specification.class))).thenReturn(true);
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentLocationId()).thenReturn(adminLocation.getId());
 
             // when
             AppException exception = assertThrows(AppException.class, () -> userService.disableUser(1L));
@@ -621,7 +627,7 @@ class UserServiceTest {
             UserUpdateRequest userUpdateRequest = new UserUpdateRequest();
             userUpdateRequest.setVersion(1L);
             userInDB.setVersion(2L);
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentLocation()).thenReturn(adminUsing.getLocation());
             given(userRepository.findByIdAndLocation(1L, adminLocation)).willReturn(Optional.of(userInDB));
 
             assertThatThrownBy(() -> userService.editUser(1L, userUpdateRequest))
@@ -638,7 +644,7 @@ class UserServiceTest {
             request.setType(ERole.USER);
             request.setVersion(1L);
 
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentLocation()).thenReturn(adminUsing.getLocation());
             when(userRepository.findByIdAndLocation(1L, adminLocation)).thenReturn(Optional.of(userInDB));
             doThrow(new OptimisticLockingFailureException("")).when(userRepository).save(userInDB);
 
@@ -656,7 +662,7 @@ class UserServiceTest {
             request.setType(ERole.USER);
             request.setVersion(1L);
 
-            when(authUtil.getCurrentUser()).thenReturn(adminUsing);
+            when(authUtil.getCurrentLocation()).thenReturn(adminUsing.getLocation());
             when(userRepository.findByIdAndLocation(1L, adminLocation)).thenReturn(Optional.of(userInDB));
             doThrow(new OptimisticLockingFailureException("")).when(userRepository).save(userInDB);
 
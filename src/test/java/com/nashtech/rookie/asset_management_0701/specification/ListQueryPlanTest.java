@@ -0,0 +1,190 @@
+package com.nashtech.rookie.asset_management_0701.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+import com.nashtech.rookie.asset_management_0701.configs.metrics.StatementCounter;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.AssignmentRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetSpecification;
+import com.nashtech.rookie.asset_management_0701.services.assignment.AssignmentSpecification;
+import com.nashtech.rookie.asset_management_0701.services.user.UserSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// the statements the list specifications generate, planned by PostgreSQL on the migrated schema.
+// the tables are empty, so sequential scans are switched off and the plan shows whether an index can serve
+// the predicates at all, a generic plan keeps the bind parameters Hibernate produced. the container needs
+// Docker, without it the test is skipped
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ListQueryPlanTest {
+    private static final Pattern PARAMETER = Pattern.compile("\\?");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @SpyBean
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    private Location location;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @BeforeEach
+    void setUp() {
+        location = locationRepository.findAll().get(0);
+        clearInvocations(statementCounter);
+    }
+
+    private String generatedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(statementCounter, atLeastOnce()).inspect(sql.capture());
+        return sql.getAllValues().get(0);
+    }
+
+    private String plan(String sql) throws SQLException {
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(numbered, "\\$" + ++parameter);
+        }
+        matcher.appendTail(numbered);
+
+        // the extended protocol would take $1 for a bind parameter of the EXPLAIN itself
+        Properties properties = new Properties();
+        properties.setProperty("user", POSTGRES.getUsername());
+        properties.setProperty("password", POSTGRES.getPassword());
+        properties.setProperty("preferQueryMode", "simple");
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+             Statement statement = connection.createStatement()) {
+            statement.execute("set enable_seqscan = off");
+            try (ResultSet rows = statement.executeQuery("explain (generic_plan) " + numbered)) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    private static String scanOn(String index) {
+        return "Scan (using|on) " + index + "\\b";
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void assetList_locationAndStates_useLocationStateIndex() throws SQLException {
+            assetRepository.findAll(Specification.where(AssetSpecification.hasLocation(location))
+                    .and(AssetSpecification.hasStates(Set.of(EAssetState.AVAILABLE, EAssetState.NOT_AVAILABLE))));
+
+            assertThat(plan(generatedSql())).containsPattern(scanOn("idx_asset_location_state"));
+        }
+
+        @Test
+        void assetList_nameSearch_useNameTrigramIndex() throws SQLException {
+            assetRepository.findAll(AssetSpecification.hasAssetName("laptop"));
+
+            assertThat(plan(generatedSql())).containsPattern(scanOn("idx_asset_name_trgm"));
+        }
+
+        @Test
+        void assetList_codeSearch_useCodeTrigramIndex() throws SQLException {
+            assetRepository.findAll(AssetSpecification.hasAssetCode("la0000"));
+
+            assertThat(plan(generatedSql())).containsPattern(scanOn("idx_asset_code_trgm"));
+        }
+
+        @Test
+        void userList_locationNotDisabledAndRole_useLocationStatusIndex() throws SQLException {
+            userRepository.findAll(Specification.where(UserSpecification.hasLocation(location))
+                    .and(UserSpecification.isNotDisabled())
+                    .and(UserSpecification.hasRole("STAFF")));
+
+            assertThat(plan(generatedSql())).containsPattern(scanOn("idx_user_location_status"));
+        }
+
+        @Test
+        void userList_nameSearch_useSearchNameTrigramIndex() throws SQLException {
+            userRepository.findAll(UserSpecification.hasNameContains("nguyen"));
+
+            assertThat(plan(generatedSql())).containsPattern(scanOn("idx_user_search_name_trgm"));
+        }
+
+        @Test
+        void userList_staffCodeSearch_useStaffCodeTrigramIndex() throws SQLException {
+            userRepository.findAll(UserSpecification.hasStaffCodeContains("sd00"));
+
+            assertThat(plan(generatedSql())).containsPattern(scanOn("idx_user_staff_code_trgm"));
+        }
+
+        @Test
+        void assignmentList_locationThroughAsset_useLocationAndAssetIndexes() throws SQLException {
+            assignmentRepository.findAll(Specification.where(AssignmentSpecification.hasLocation(location))
+                    .and(AssignmentSpecification.notStateReturned()));
+
+            assertThat(plan(generatedSql()))
+                    .containsPattern(scanOn("idx_asset_location_state"))
+                    .containsPattern(scanOn("idx_assignment_asset_state"));
+        }
+
+        @Test
+        void ownAssignments_assigneeAndDate_useAssigneeIndex() throws SQLException {
+            assignmentRepository.findAll(Specification.where(AssignmentSpecification.assignToIdEquals(1L))
+                    .and(AssignmentSpecification.notStateReturned())
+                    .and(AssignmentSpecification.notStateDeclined())
+                    .and(AssignmentSpecification.assignedDateLessThanEqual(LocalDate.now())));
+
+            assertThat(plan(generatedSql())).containsPattern(scanOn("idx_assignment_assign_to_state"));
+        }
+    }
+}
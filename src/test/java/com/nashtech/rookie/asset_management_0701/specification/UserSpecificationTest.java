@@ -0,0 +1,85 @@
+package com.nashtech.rookie.asset_management_0701.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.services.user.UserSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class UserSpecificationTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Specification<User> inLocation;
+
+    @BeforeEach
+    void setUp() {
+        Location location = locationRepository.save(Location.builder().name("Searching").code("SR0001").build());
+        inLocation = UserSpecification.hasLocation(location);
+        saveUser("Nguyen", "Van An", "annv", location);
+        saveUser("Tran", "Thi 50%", "thit", location);
+    }
+
+    private void saveUser(String firstName, String lastName, String username, Location location) {
+        userRepository.saveAndFlush(User.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .username(username)
+                .location(location)
+                .build());
+    }
+
+    private List<String> search(Specification<User> specification) {
+        return userRepository.findAll(inLocation.and(specification)).stream().map(User::getUsername).toList();
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void hasNameContains_termAcrossFirstAndLastName_matchUser() {
+            assertThat(search(UserSpecification.hasNameContains(" NGUYEN va "))).containsExactly("annv");
+        }
+
+        @Test
+        void hasNameContains_likeWildcardInTerm_matchLiterally() {
+            assertThat(search(UserSpecification.hasNameContains("50%"))).containsExactly("thit");
+            assertThat(search(UserSpecification.hasNameContains("_"))).isEmpty();
+        }
+
+        @Test
+        void backfillMigration_rowWrittenWithoutEntity_backfillSearchName() {
+            jdbcTemplate.update("update users set search_name = null where username = 'annv'");
+
+            // joins the test transaction, so the script sees the uncommitted rows
+            DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(
+                    new ClassPathResource("db/migration/common/V3__backfill_user_search_name.sql")),
+                    jdbcTemplate.getDataSource());
+
+            assertThat(jdbcTemplate.queryForObject("select search_name from users where username = 'annv'",
+                    String.class)).isEqualTo("nguyen van an");
+        }
+    }
+}
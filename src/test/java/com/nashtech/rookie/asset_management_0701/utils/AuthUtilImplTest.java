@@ -0,0 +1,98 @@
+package com.nashtech.rookie.asset_management_0701.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nashtech.rookie.asset_management_0701.dtos.security.CurrentPrincipal;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.entities.User;
+import com.nashtech.rookie.asset_management_0701.enums.ERole;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.UserRepository;
+import com.nashtech.rookie.asset_management_0701.utils.auth_util.AuthUtilImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+class AuthUtilImplTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @InjectMocks
+    private AuthUtilImpl authUtil;
+
+    private final Location location = Location.builder().id(3L).build();
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    private void authenticate(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void getCurrentLocation_principalFromToken_skipUsersTable() {
+            authenticate(new CurrentPrincipal(7L, "admin", 3L, ERole.ADMIN));
+            when(locationRepository.getReferenceById(3L)).thenReturn(location);
+
+            assertThat(authUtil.getCurrentUserName()).isEqualTo("admin");
+            assertThat(authUtil.getCurrentUserId()).isEqualTo(7L);
+            assertThat(authUtil.getCurrentLocationId()).isEqualTo(3L);
+            assertThat(authUtil.getCurrentLocation()).isSameAs(location);
+            verify(userRepository, never()).findByUsername(any());
+        }
+
+        @Test
+        void getCurrentUser_calledTwiceInRequest_loadOnce() {
+            authenticate(new CurrentPrincipal(7L, "admin", 3L, ERole.ADMIN));
+            User admin = User.builder().id(7L).username("admin").location(location).build();
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(admin));
+
+            assertThat(authUtil.getCurrentUser()).isSameAs(admin);
+            assertThat(authUtil.getCurrentUser()).isSameAs(admin);
+            verify(userRepository, times(1)).findByUsername("admin");
+        }
+
+        @Test
+        void getCurrentLocationId_plainPrincipal_fallBackToUser() {
+            authenticate("admin");
+            User admin = User.builder().id(7L).username("admin").location(location).build();
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(admin));
+
+            assertThat(authUtil.getCurrentLocationId()).isEqualTo(3L);
+            assertThat(authUtil.getCurrentUserId()).isEqualTo(7L);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.nashtech.rookie.asset_management_0701.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nashtech.rookie.asset_management_0701.dtos.responses.PaginationResponse;
+import com.nashtech.rookie.asset_management_0701.entities.Asset;
+import com.nashtech.rookie.asset_management_0701.entities.Category;
+import com.nashtech.rookie.asset_management_0701.entities.Location;
+import com.nashtech.rookie.asset_management_0701.enums.EAssetState;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.repositories.AssetRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.CategoryRepository;
+import com.nashtech.rookie.asset_management_0701.repositories.LocationRepository;
+import com.nashtech.rookie.asset_management_0701.services.asset.AssetSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class KeysetPageUtilTest {
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    private Specification<Asset> inLocation;
+
+    private List<Asset> assets;
+
+    @BeforeEach
+    void setUp() {
+        Location location = locationRepository.save(Location.builder().name("Keyset").code("KS0001").build());
+        Category laptop = categoryRepository.save(Category.builder().name("Keyset laptop").code("KL").build());
+        Category monitor = categoryRepository.save(Category.builder().name("Keyset monitor").code("KM").build());
+        inLocation = AssetSpecification.hasLocation(location);
+
+        String[] names = {"Dell", "Acer", "Dell", "Asus", "Dell", "Lenovo", "Acer", "HP"};
+        String[] specifications = {"16GB", null, "8GB", null, "16GB", "32GB", "8GB", null};
+        assets = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            assets.add(assetRepository.save(Asset.builder()
+                    .name(names[i])
+                    .assetCode("KS" + i)
+                    .specification(specifications[i])
+                    .category(i % 2 == 0 ? laptop : monitor)
+                    .location(location)
+                    .state(EAssetState.AVAILABLE)
+                    .build()));
+        }
+    }
+
+    private List<Long> readAllPages(Sort sort, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        do {
+            PaginationResponse<Long> page = KeysetPageUtil.findPage(assetRepository, inLocation, sort, cursor,
+                    pageSize, Asset::getId);
+            assertThat(page.getData()).hasSizeLessThanOrEqualTo(pageSize);
+            assertThat(page.getTotal()).isNull();
+            ids.addAll(page.getData());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> expected(Comparator<Asset> comparator) {
+        return assets.stream()
+                .sorted(comparator.thenComparing(Asset::getId))
+                .map(Asset::getId)
+                .toList();
+    }
+
+    @Nested
+    class HappyCase {
+        @Test
+        void findPage_sortByDuplicatedName_walkEveryRowOnce() {
+            assertThat(readAllPages(Sort.by(Sort.Direction.ASC, "name"), 3))
+                    .containsExactlyElementsOf(expected(Comparator.comparing(Asset::getName)));
+            assertThat(readAllPages(Sort.by(Sort.Direction.DESC, "name"), 2))
+                    .containsExactlyElementsOf(expected(Comparator.comparing(Asset::getName).reversed()));
+        }
+
+        @Test
+        void findPage_sortByNullableField_keepNullsLast() {
+            Comparator<String> nullsLast = Comparator.nullsLast(Comparator.naturalOrder());
+            assertThat(readAllPages(Sort.by(Sort.Direction.ASC, "specification"), 3))
+                    .containsExactlyElementsOf(expected(Comparator.comparing(Asset::getSpecification, nullsLast)));
+        }
+
+        @Test
+        void findPage_sortByAssociation_seekOnItsId() {
+            assertThat(readAllPages(Sort.by(Sort.Direction.DESC, "category"), 3))
+                    .containsExactlyElementsOf(expected(
+                            Comparator.comparing((Asset asset) -> asset.getCategory().getId()).reversed()));
+        }
+
+        @Test
+        void findPage_sortByNestedPaths_walkEveryRowOnce() {
+            Sort sort = Sort.by(Sort.Order.asc("category_name"), Sort.Order.desc("name"));
+
+            assertThat(readAllPages(sort, 3)).containsExactlyElementsOf(expected(
+                    Comparator.comparing((Asset asset) -> asset.getCategory().getName())
+                            .thenComparing(Asset::getName, Comparator.reverseOrder())));
+        }
+
+        @Test
+        void findPage_lastPage_returnNoCursor() {
+            PaginationResponse<Long> page = KeysetPageUtil.findPage(assetRepository, inLocation,
+                    Sort.by("name"), "", assets.size(), Asset::getId);
+
+            assertThat(page.getData()).hasSize(assets.size());
+            assertThat(page.getNextCursor()).isNull();
+        }
+    }
+
+    @Nested
+    class UnhappyCase {
+        @Test
+        void findPage_malformedCursor_throwInvalidCursor() {
+            assertThatThrownBy(() -> KeysetPageUtil.findPage(assetRepository, inLocation, Sort.by("name"),
+                    "not a cursor", 3, Asset::getId))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        }
+
+        @Test
+        void findPage_cursorFromOtherSort_throwInvalidCursor() {
+            String cursor = KeysetPageUtil.findPage(assetRepository, inLocation, Sort.by("name"), "", 3,
+                    Asset::getId).getNextCursor();
+
+            assertThatThrownBy(() -> KeysetPageUtil.findPage(assetRepository, inLocation,
+                    Sort.by(Sort.Direction.DESC, "name"), cursor, 3, Asset::getId))
+                    .isInstanceOf(AppException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
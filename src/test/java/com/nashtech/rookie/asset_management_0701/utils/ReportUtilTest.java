@@ -12,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -59,9 +60,10 @@ class ReportUtilTest {
 
         ReportUtilImpl reportUtil = new ReportUtilImpl();
 
-        ByteArrayInputStream result = reportUtil.writeExcel(mockResponses);
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        reportUtil.writeExcel(mockResponses, result);
 
-        Workbook workbook = new XSSFWorkbook(result);
+        Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(result.toByteArray()));
         Sheet sheet = workbook.getSheetAt(0);
         return sheet;
     }
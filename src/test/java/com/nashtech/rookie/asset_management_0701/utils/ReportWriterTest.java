@@ -0,0 +1,89 @@
+package com.nashtech.rookie.asset_management_0701.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nashtech.rookie.asset_management_0701.enums.EExportFormat;
+import com.nashtech.rookie.asset_management_0701.exceptions.AppException;
+import com.nashtech.rookie.asset_management_0701.exceptions.ErrorCode;
+import com.nashtech.rookie.asset_management_0701.utils.report.CsvReportWriter;
+import com.nashtech.rookie.asset_management_0701.utils.report.NdjsonReportWriter;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportColumn;
+import com.nashtech.rookie.asset_management_0701.utils.report.ReportWriterResolver;
+import com.nashtech.rookie.asset_management_0701.utils.report.XlsxReportWriter;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReportWriterTest {
+    private record Item(Long id, String name) {
+    }
+
+    private static final List<ReportColumn<Item>> COLUMNS = List.of(
+            new ReportColumn<>("id", Item::id),
+            new ReportColumn<>("name", Item::name));
+
+    private Stream<Item> items() {
+        return Stream.of(new Item(1L, "Laptop"), new Item(2L, "Monitor, 27\" \"4K\""), new Item(3L, null));
+    }
+
+    @Test
+    void csvWriter_validRows_writeQuotedLines() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new CsvReportWriter().write(COLUMNS, items(), outputStream);
+
+        assertEquals("id,name\r\n1,Laptop\r\n2,\"Monitor, 27\"\" \"\"4K\"\"\"\r\n3,\r\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void ndjsonWriter_validRows_writeOneObjectPerLine() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new NdjsonReportWriter(objectMapper).write(COLUMNS, items(), outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(2L, second.get("id").asLong());
+        assertEquals("Monitor, 27\" \"4K\"", second.get("name").asText());
+        assertEquals("{\"id\":3,\"name\":null}", lines[2]);
+    }
+
+    @Test
+    void xlsxWriter_validRows_writeHeaderAndRows() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        new XlsxReportWriter().write(COLUMNS, items(), outputStream);
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("name", sheet.getRow(0).getCell(1).getStringCellValue());
+            assertEquals(1, sheet.getRow(1).getCell(0).getNumericCellValue());
+            assertEquals("Laptop", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals(3, sheet.getLastRowNum());
+        }
+    }
+
+    @Test
+    void writerResolver_registeredFormat_returnWriter() {
+        ReportWriterResolver resolver = new ReportWriterResolver(List.of(new CsvReportWriter()));
+
+        assertInstanceOf(CsvReportWriter.class, resolver.getWriter(EExportFormat.CSV));
+        AppException exception = assertThrows(AppException.class, () -> resolver.getWriter(EExportFormat.NDJSON));
+        assertEquals(ErrorCode.UNSUPPORTED_EXPORT_FORMAT, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,28 @@
+-- the schema ddl-auto update created on PostgreSQL for the entities before the migrations, with the rows
+-- an installation of that version holds
+create table assets (id bigint generated by default as identity, version bigint default 0, category_id bigint, created_date timestamp(6), install_date date, last_modified_date timestamp(6), location_id bigint, asset_code varchar(8), specification varchar(1024), created_by varchar(255), last_modified_by varchar(255), name varchar(255), state varchar(255) check (state in ('AVAILABLE','NOT_AVAILABLE','ASSIGNED','WAITING_FOR_RECYCLE','RECYCLED')), primary key (id));
+create table assignments (assigned_date date, asset_id bigint, assign_by_id bigint, assign_to_id bigint, created_date timestamp(6), id bigint generated by default as identity, last_modified_date timestamp(6), created_by varchar(255), last_modified_by varchar(255), note TEXT, state varchar(255) check (state in ('WAITING','ACCEPTED','DECLINED','RETURNED')), primary key (id));
+create table categories (count_amount bigint, id bigint generated by default as identity, code varchar(2), name varchar(255), primary key (id));
+create table invalid_tokens (created_date timestamp(6), expiry_date timestamp(6) with time zone, last_modified_date timestamp(6), user_id bigint, created_by varchar(255), id_token varchar(255) not null, last_modified_by varchar(255), primary key (id_token));
+create table locations (id bigint generated by default as identity, code varchar(255), name varchar(255), primary key (id));
+create table returning_requests (return_date date, accepted_by_id bigint, assignment_id bigint unique, id bigint generated by default as identity, requested_by_id bigint, state varchar(255) check (state in ('WAITING_FOR_RETURNING','COMPLETED')), primary key (id));
+create table users (dob date, join_date date, created_date timestamp(6), id bigint generated by default as identity, last_modified_date timestamp(6), location_id bigint, version bigint default 0, created_by varchar(255), first_name varchar(255), gender varchar(255) check (gender in ('MALE','FEMALE')), hash_password varchar(255), last_modified_by varchar(255), last_name varchar(255), role varchar(255) check (role in ('ADMIN','USER')), staff_code varchar(255) unique, status varchar(255) check (status in ('ACTIVE','FIRST_LOGIN','DISABLED')), username varchar(255) unique, primary key (id));
+create index idx_asset_category_id on assets (category_id);
+create index idx_category_id on categories (id);
+alter table if exists assets add constraint FKcvyf8pxl6m3wb2bjda2roip1f foreign key (category_id) references categories;
+alter table if exists assets add constraint FKhuexoh5k5nfvvmw9ko38oi0bl foreign key (location_id) references locations;
+alter table if exists assignments add constraint FKiep3tb021q3m4qhltfh2b6fg8 foreign key (asset_id) references assets;
+alter table if exists assignments add constraint FKm1iqgqu4gd9eb7bqtx1wiqxox foreign key (assign_by_id) references users;
+alter table if exists assignments add constraint FKhts182u57n6pgea7aevn1s2yr foreign key (assign_to_id) references users;
+alter table if exists invalid_tokens add constraint FK86kw6diotcidlfvned6ocy7ri foreign key (user_id) references users;
+alter table if exists returning_requests add constraint FK4a53jf4t0t4qs8e0tgjbfgvxu foreign key (accepted_by_id) references users;
+alter table if exists returning_requests add constraint FKnkdn1vh7xxljvbwxlatj3r8yn foreign key (assignment_id) references assignments;
+alter table if exists returning_requests add constraint FK6md28fov0gxw4n1o9y8he0tis foreign key (requested_by_id) references users;
+alter table if exists users add constraint FKdk0xfnnthbj8afp1ira6sndte foreign key (location_id) references locations;
+
+insert into locations (id, code, name) values (1, 'HCM', 'Ho Chi Minh');
+insert into categories (id, code, name, count_amount) values (1, 'LA', 'Laptop', 2);
+insert into users (id, first_name, last_name, username, staff_code, role, status, location_id, version)
+values (1, 'Legacy', 'Admin', 'legacyadmin', 'SD0001', 'ADMIN', 'ACTIVE', 1, 0);
+insert into assets (id, asset_code, name, state, category_id, location_id, version)
+values (1, 'LA000001', 'Laptop 1', 'AVAILABLE', 1, 1, 0), (2, 'LA000002', 'Laptop 2', 'AVAILABLE', 1, 1, 0);